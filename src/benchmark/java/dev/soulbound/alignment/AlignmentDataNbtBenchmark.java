@@ -0,0 +1,44 @@
+package dev.soulbound.alignment;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+public class AlignmentDataNbtBenchmark {
+    private static final int ITERATIONS = 2000;
+
+    public static void main(String[] args) throws IOException {
+        NbtCompound legacy = AlignmentDataNbtTest.legacyCompound();
+        AlignmentData data = AlignmentData.fromNbt(legacy);
+        byte[] legacyPayload = AlignmentDataNbtTest.compressed(legacy);
+        byte[] compactPayload = AlignmentDataNbtTest.compressed(data.toNbt());
+
+        long legacyEncode = time(() -> AlignmentDataNbtTest.compressed(AlignmentDataNbtTest.legacyCompound()));
+        long compactEncode = time(() -> AlignmentDataNbtTest.compressed(data.toNbt()));
+        long legacyDecode = time(() -> AlignmentData.fromNbt(NbtIo.readCompressed(new ByteArrayInputStream(legacyPayload))));
+        long compactDecode = time(() -> AlignmentData.fromNbt(NbtIo.readCompressed(new ByteArrayInputStream(compactPayload))));
+
+        System.out.printf("legacy:  %d bytes, encode %.1f us, decode %.1f us%n",
+                legacyPayload.length, legacyEncode / 1000.0, legacyDecode / 1000.0);
+        System.out.printf("compact: %d bytes, encode %.1f us, decode %.1f us%n",
+                compactPayload.length, compactEncode / 1000.0, compactDecode / 1000.0);
+    }
+
+    private static long time(Work work) throws IOException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            work.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        void run() throws IOException;
+    }
+}
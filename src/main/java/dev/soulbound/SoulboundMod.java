@@ -2,17 +2,26 @@ package dev.soulbound;
 
 import dev.soulbound.command.SoulCommand;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.effect.StatusEffectArbiter;
 import dev.soulbound.handler.*;
 import dev.soulbound.manager.AlignmentManager;
+import dev.soulbound.persistence.AlignmentJournal;
+import dev.soulbound.scheduler.SoulTickScheduler;
+import dev.soulbound.spatial.PlayerSpatialIndex;
 import dev.soulbound.registry.AlignmentRegistry;
+import dev.soulbound.registry.MobCategoryTable;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.WorldSavePath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 public class SoulboundMod implements ModInitializer {
     public static final String MOD_ID = "soulbound";
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
@@ -21,13 +30,16 @@ public class SoulboundMod implements ModInitializer {
     private static AlignmentManager alignmentManager;
     private static MobPerceptionHandler mobPerceptionHandler;
     private static ApexStateHandler apexStateHandler;
+    private static StatusEffectArbiter effectArbiter;
+    private static PlayerSpatialIndex playerIndex;
     private static FractureHandler fractureHandler;
-    private static AlignmentDecayHandler decayHandler;
     private static PlayerEventHandler playerEventHandler;
     private static SoulResonanceHandler resonanceHandler;
     private static SoulEchoManager soulEchoManager;
     private static DimensionalHandler dimensionalHandler;
     private static AlignmentParticleHandler particleHandler;
+    private static AlignmentJournal alignmentJournal;
+    private static SoulTickScheduler tickScheduler;
 
     @Override
     public void onInitialize() {
@@ -42,31 +54,64 @@ public class SoulboundMod implements ModInitializer {
         apexStateHandler = new ApexStateHandler(configManager);
         fractureHandler = new FractureHandler(configManager);
         mobPerceptionHandler = new MobPerceptionHandler(configManager, alignmentManager);
-        decayHandler = new AlignmentDecayHandler(configManager, alignmentManager);
         playerEventHandler = new PlayerEventHandler();
         resonanceHandler = new SoulResonanceHandler(configManager);
         soulEchoManager = new SoulEchoManager(configManager);
         dimensionalHandler = new DimensionalHandler(configManager);
         particleHandler = new AlignmentParticleHandler(configManager);
+        tickScheduler = new SoulTickScheduler(configManager);
+        effectArbiter = new StatusEffectArbiter(configManager);
+        playerIndex = new PlayerSpatialIndex();
 
         registerEvents();
     }
 
     private void registerEvents() {
-        playerEventHandler.register();
+        playerEventHandler.register(tickScheduler);
 
         ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
             alignmentManager.onMobKilled(entity, damageSource);
+            if (entity instanceof ServerPlayerEntity player) {
+                soulEchoManager.createEcho(player);
+            }
+        });
+
+        resonanceHandler.register(tickScheduler);
+        soulEchoManager.register(tickScheduler);
+        dimensionalHandler.register(tickScheduler);
+        particleHandler.register(tickScheduler);
+        apexStateHandler.register(tickScheduler);
+        fractureHandler.register(tickScheduler);
+
+        ServerTickEvents.END_SERVER_TICK.register(tickScheduler::tick);
+        ServerTickEvents.END_SERVER_TICK.register(effectArbiter::flush);
+
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            rebuildEntityTables();
+            if (!configManager.isJournalEnabled()) return;
+            try {
+                alignmentJournal = AlignmentJournal.open(
+                        server.getSavePath(WorldSavePath.ROOT).resolve(MOD_ID).resolve("alignment.journal"),
+                        configManager.getJournalCommitIntervalMs());
+                alignmentManager.setJournal(alignmentJournal);
+            } catch (IOException e) {
+                LOGGER.error("Failed to open alignment journal, continuing without it", e);
+            }
+        });
+
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                rebuildEntityTables();
+            }
         });
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            decayHandler.tick(server);
-            resonanceHandler.tick(server);
-            soulEchoManager.tick(server);
-            dimensionalHandler.tick(server);
-            particleHandler.tick(server);
-            apexStateHandler.tick(server);
-            fractureHandler.tick(server);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            playerIndex.clear();
+            soulEchoManager.clear();
+            if (alignmentJournal == null) return;
+            alignmentManager.setJournal(null);
+            alignmentJournal.close();
+            alignmentJournal = null;
         });
 
         CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
@@ -74,6 +119,11 @@ public class SoulboundMod implements ModInitializer {
         });
     }
 
+    private static void rebuildEntityTables() {
+        MobCategoryTable.rebuild();
+        AlignmentRegistry.rebuild();
+    }
+
     public static ConfigManager getConfigManager() {
         return configManager;
     }
@@ -90,6 +140,14 @@ public class SoulboundMod implements ModInitializer {
         return apexStateHandler;
     }
 
+    public static StatusEffectArbiter getEffectArbiter() {
+        return effectArbiter;
+    }
+
+    public static PlayerSpatialIndex getPlayerIndex() {
+        return playerIndex;
+    }
+
     public static FractureHandler getFractureHandler() {
         return fractureHandler;
     }
@@ -109,4 +167,12 @@ public class SoulboundMod implements ModInitializer {
     public static SoulEchoManager getSoulEchoManager() {
         return soulEchoManager;
     }
+
+    public static SoulTickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public static AlignmentJournal getAlignmentJournal() {
+        return alignmentJournal;
+    }
 }
@@ -6,25 +6,43 @@ import net.minecraft.nbt.NbtList;
 import java.util.*;
 
 public class AlignmentData {
-    private final Map<AlignmentType, Float> alignments;
+    private static final int RANKED = 3;
+
+    private final float[] values;
+    private Map<AlignmentType, Float> alignmentView;
+    private final int[] ranked;
+    private int positiveCount;
     private AlignmentType dominant;
     private AlignmentType secondary;
     private float fractureLevel;
     private long lastUpdateTimestamp;
     private boolean isApex;
     private boolean isFractured;
-    private final Map<String, Long> killTimestamps;
-    private final Map<String, Integer> killCounts;
+    public static final long NO_KILL = Long.MIN_VALUE;
+
+    private static final byte NBT_FORMAT = 2;
+    private static final int FLAG_APEX = 1;
+    private static final int FLAG_FRACTURED = 2;
+    private static final int FLAG_ECHO = 4;
+
+    private final long[] lastKillTicks;
+    private final int[] windowKillCounts;
 
     private int momentumStreak;
     private AlignmentType momentumType;
     private float momentumMultiplier;
 
     private int totalKills;
-    private final Map<AlignmentType, Integer> killsByAlignment;
+    private final int[] killsByAlignment;
 
-    private final List<AlignmentShift> shiftHistory;
-    private static final int MAX_HISTORY = 20;
+    private static final int HISTORY_CAPACITY = 32;
+    private final int[] historyTypes;
+    private final float[] historyAmounts;
+    private final int[] historyCounts;
+    private final long[] historyTimes;
+    private int historyHead;
+    private int historySize;
+    private boolean newestShiftSecondary;
 
     private double lastKillX;
     private double lastKillY;
@@ -39,26 +57,38 @@ public class AlignmentData {
 
     private AlignmentType previousDominant;
     private long dominantChangedAt;
+    private long journalSeq;
+
+    private long version;
+    private AlignmentSnapshot snapshot;
+
+    private boolean dirty;
+    private NbtCompound cachedNbt;
 
     public AlignmentData() {
-        this.alignments = new EnumMap<>(AlignmentType.class);
-        for (AlignmentType type : AlignmentType.values()) {
-            alignments.put(type, 0.0f);
-        }
+        this.values = new float[AlignmentType.COUNT];
+        this.ranked = new int[RANKED];
+        rebuildRanking();
         this.dominant = null;
         this.secondary = null;
         this.fractureLevel = 0.0f;
         this.lastUpdateTimestamp = 0L;
         this.isApex = false;
         this.isFractured = false;
-        this.killTimestamps = new HashMap<>();
-        this.killCounts = new HashMap<>();
+        this.lastKillTicks = new long[AlignmentType.COUNT];
+        Arrays.fill(lastKillTicks, NO_KILL);
+        this.windowKillCounts = new int[AlignmentType.COUNT];
         this.momentumStreak = 0;
         this.momentumType = null;
         this.momentumMultiplier = 1.0f;
         this.totalKills = 0;
-        this.killsByAlignment = new EnumMap<>(AlignmentType.class);
-        this.shiftHistory = new ArrayList<>();
+        this.killsByAlignment = new int[AlignmentType.COUNT];
+        this.historyTypes = new int[HISTORY_CAPACITY];
+        this.historyAmounts = new float[HISTORY_CAPACITY];
+        this.historyCounts = new int[HISTORY_CAPACITY];
+        this.historyTimes = new long[HISTORY_CAPACITY];
+        this.historyHead = 0;
+        this.historySize = 0;
         this.lastKillX = 0;
         this.lastKillY = 0;
         this.lastKillZ = 0;
@@ -69,20 +99,41 @@ public class AlignmentData {
         this.soulEchoExpiry = 0;
         this.previousDominant = null;
         this.dominantChangedAt = 0;
+        this.journalSeq = 0;
+        this.version = 0;
+        this.snapshot = null;
+        this.dirty = true;
+        this.cachedNbt = null;
     }
 
     public float getAlignment(AlignmentType type) {
-        return alignments.getOrDefault(type, 0.0f);
+        return values[type.ordinal()];
+    }
+
+    public float getAlignment(int ordinal) {
+        return values[ordinal];
+    }
+
+    public void copyAlignments(float[] dest) {
+        System.arraycopy(values, 0, dest, 0, values.length);
     }
 
     public Map<AlignmentType, Float> getAllAlignments() {
-        return Collections.unmodifiableMap(alignments);
+        if (alignmentView == null) {
+            alignmentView = new AlignmentView();
+        }
+        return alignmentView;
     }
 
     public void addAlignment(AlignmentType type, float amount) {
-        float current = alignments.getOrDefault(type, 0.0f);
-        float newValue = Math.max(0, current + amount);
-        alignments.put(type, newValue);
+        addAlignment(type, amount, false);
+    }
+
+    public void addAlignment(AlignmentType type, float amount, boolean secondaryGrant) {
+        int index = type.ordinal();
+        float previous = values[index];
+        values[index] = Math.max(0, previous + amount);
+        updateRanking(index, previous);
 
         applyOpposingDecay(type, amount * 0.3f);
 
@@ -95,54 +146,189 @@ public class AlignmentData {
             momentumMultiplier = 1.0f;
         }
 
-        killsByAlignment.merge(type, 1, Integer::sum);
+        killsByAlignment[index]++;
         totalKills++;
 
-        addShift(type, amount);
+        addShift(type, amount, secondaryGrant);
         recalculateDominance();
+        markChanged();
     }
 
     private void applyOpposingDecay(AlignmentType gained, float amount) {
         for (AlignmentType opposing : gained.getOpposing()) {
-            float current = alignments.getOrDefault(opposing, 0.0f);
-            if (current > 0) {
-                alignments.put(opposing, Math.max(0, current - amount));
+            int index = opposing.ordinal();
+            float previous = values[index];
+            if (previous > 0) {
+                values[index] = Math.max(0, previous - amount);
+                updateRanking(index, previous);
             }
         }
     }
 
-    private void addShift(AlignmentType type, float amount) {
-        shiftHistory.add(new AlignmentShift(type, amount, System.currentTimeMillis()));
-        while (shiftHistory.size() > MAX_HISTORY) {
-            shiftHistory.remove(0);
+    private void addShift(AlignmentType type, float amount, boolean secondaryGrant) {
+        appendShift(type.ordinal(), amount, 1, System.currentTimeMillis(), secondaryGrant);
+    }
+
+    private void appendShift(int typeOrdinal, float amount, int count, long time) {
+        appendShift(typeOrdinal, amount, count, time, false);
+    }
+
+    private void appendShift(int typeOrdinal, float amount, int count, long time, boolean secondaryGrant) {
+        if (historySize > 0) {
+            int newest = (historyHead + historySize - 1) % HISTORY_CAPACITY;
+            int target = -1;
+            if (historyTypes[newest] == typeOrdinal) {
+                target = newest;
+                newestShiftSecondary = secondaryGrant;
+            } else if (!secondaryGrant && newestShiftSecondary && historySize > 1) {
+                int previous = (newest + HISTORY_CAPACITY - 1) % HISTORY_CAPACITY;
+                if (historyTypes[previous] == typeOrdinal) {
+                    target = previous;
+                }
+            }
+            if (target >= 0) {
+                historyAmounts[target] += amount;
+                historyCounts[target] += count;
+                historyTimes[target] = time;
+                return;
+            }
         }
+
+        int slot;
+        if (historySize < HISTORY_CAPACITY) {
+            slot = (historyHead + historySize) % HISTORY_CAPACITY;
+            historySize++;
+        } else {
+            slot = historyHead;
+            historyHead = (historyHead + 1) % HISTORY_CAPACITY;
+        }
+        historyTypes[slot] = typeOrdinal;
+        historyAmounts[slot] = amount;
+        historyCounts[slot] = count;
+        historyTimes[slot] = time;
+        newestShiftSecondary = secondaryGrant;
     }
 
     public void setAlignment(AlignmentType type, float value) {
-        alignments.put(type, Math.max(0, value));
+        setAlignment(type.ordinal(), value);
+    }
+
+    public void setAlignment(int ordinal, float value) {
+        float previous = values[ordinal];
+        values[ordinal] = Math.max(0, value);
+        updateRanking(ordinal, previous);
         recalculateDominance();
+        markChanged();
     }
 
     public void decayAll(float decayRate) {
-        for (AlignmentType type : AlignmentType.values()) {
-            float current = alignments.getOrDefault(type, 0.0f);
+        decayAll(decayRate, 1);
+    }
+
+    public void decayAll(float decayRate, long steps) {
+        if (steps <= 0) return;
+        double retention = Math.pow(Math.max(0.0, 1.0 - decayRate / 200.0), steps);
+        for (int i = 0; i < values.length; i++) {
+            float current = values[i];
             if (current > 0) {
-                float decay = decayRate * (1.0f + (current / 200.0f));
-                alignments.put(type, Math.max(0, current - decay));
+                values[i] = (float) Math.max(0.0, retention * (current + 200.0) - 200.0);
             }
         }
-        if (momentumStreak > 0) {
-            momentumStreak = Math.max(0, momentumStreak - 1);
-            momentumMultiplier = Math.max(1.0f, momentumMultiplier - 0.05f);
+        rebuildRanking();
+        int momentumSteps = (int) Math.min(steps, momentumStreak);
+        if (momentumSteps > 0) {
+            momentumStreak -= momentumSteps;
+            momentumMultiplier = Math.max(1.0f, momentumMultiplier - 0.05f * momentumSteps);
         }
         recalculateDominance();
+        markChanged();
     }
 
-    public void recalculateDominance() {
-        List<Map.Entry<AlignmentType, Float>> sorted = new ArrayList<>(alignments.entrySet());
-        sorted.sort((a, b) -> Float.compare(b.getValue(), a.getValue()));
+    public long applyPendingDecay(long currentTick, int intervalTicks, float decayRate) {
+        if (lastUpdateTimestamp <= 0 || intervalTicks <= 0) return 0;
+        long elapsed = currentTick - lastUpdateTimestamp;
+        if (elapsed < intervalTicks) return 0;
+
+        long steps = elapsed / intervalTicks;
+        decayAll(decayRate, steps);
+        lastUpdateTimestamp += steps * intervalTicks;
+        return steps;
+    }
+
+    private boolean outranks(int a, int b) {
+        int cmp = Float.compare(values[a], values[b]);
+        return cmp > 0 || (cmp == 0 && a < b);
+    }
+
+    private void rebuildRanking() {
+        positiveCount = 0;
+        int filled = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0) positiveCount++;
 
-        if (sorted.isEmpty() || sorted.get(0).getValue() <= 0) {
+            int slot;
+            if (filled < RANKED) {
+                slot = filled++;
+            } else if (outranks(i, ranked[RANKED - 1])) {
+                slot = RANKED - 1;
+            } else {
+                continue;
+            }
+            while (slot > 0 && outranks(i, ranked[slot - 1])) {
+                ranked[slot] = ranked[slot - 1];
+                slot--;
+            }
+            ranked[slot] = i;
+        }
+    }
+
+    private void updateRanking(int index, float previous) {
+        float current = values[index];
+        if (Float.compare(current, previous) == 0) return;
+        if ((previous > 0) != (current > 0)) {
+            positiveCount += current > 0 ? 1 : -1;
+        }
+
+        int slot = RANKED;
+        for (int i = 0; i < RANKED; i++) {
+            if (ranked[i] == index) {
+                slot = i;
+                break;
+            }
+        }
+
+        if (slot < RANKED) {
+            if (current < previous) {
+                rebuildRanking();
+                return;
+            }
+        } else if (outranks(index, ranked[RANKED - 1])) {
+            slot = RANKED - 1;
+        } else {
+            return;
+        }
+
+        while (slot > 0 && outranks(index, ranked[slot - 1])) {
+            ranked[slot] = ranked[slot - 1];
+            slot--;
+        }
+        ranked[slot] = index;
+    }
+
+    public AlignmentType getRankedType(int rank) {
+        return AlignmentType.byOrdinal(ranked[rank]);
+    }
+
+    public float getRankedValue(int rank) {
+        return values[ranked[rank]];
+    }
+
+    public int getPositiveAlignmentCount() {
+        return positiveCount;
+    }
+
+    public void recalculateDominance() {
+        if (values[ranked[0]] <= 0) {
             if (dominant != null) {
                 previousDominant = dominant;
                 dominantChangedAt = System.currentTimeMillis();
@@ -152,36 +338,29 @@ public class AlignmentData {
             return;
         }
 
-        AlignmentType newDominant = sorted.get(0).getKey();
+        AlignmentType newDominant = AlignmentType.byOrdinal(ranked[0]);
         if (dominant != null && dominant != newDominant) {
             previousDominant = dominant;
             dominantChangedAt = System.currentTimeMillis();
         }
         dominant = newDominant;
 
-        if (sorted.size() > 1 && sorted.get(1).getValue() > 0) {
-            secondary = sorted.get(1).getKey();
+        if (values[ranked[1]] > 0) {
+            secondary = AlignmentType.byOrdinal(ranked[1]);
         } else {
             secondary = null;
         }
     }
 
     public void recalculateFracture(float threshold) {
-        List<Float> topValues = new ArrayList<>();
-        for (AlignmentType type : AlignmentType.values()) {
-            float val = alignments.getOrDefault(type, 0.0f);
-            if (val > 0) {
-                topValues.add(val);
-            }
-        }
-        topValues.sort(Collections.reverseOrder());
-
-        if (topValues.size() >= 3) {
-            float first = topValues.get(0);
-            float third = topValues.get(2);
+        float previousLevel = fractureLevel;
+        boolean wasFractured = isFractured;
+        if (positiveCount >= RANKED) {
+            float first = values[ranked[0]];
+            float third = values[ranked[RANKED - 1]];
 
             if (first > 0 && (first - third) <= threshold) {
-                float fractureGain = 0.5f + (topValues.size() - 3) * 0.1f;
+                float fractureGain = 0.5f + (positiveCount - 3) * 0.1f;
                 fractureLevel = Math.min(fractureLevel + fractureGain, 100.0f);
                 isFractured = true;
             } else {
@@ -193,6 +372,9 @@ public class AlignmentData {
             fractureLevel = Math.max(0, fractureLevel - 0.5f);
             isFractured = fractureLevel > 0;
         }
+        if (fractureLevel != previousLevel || isFractured != wasFractured) {
+            markChanged();
+        }
     }
 
     public AlignmentType.Tier getDominantTier() {
@@ -203,7 +385,7 @@ public class AlignmentData {
     public float getAlignmentStrength() {
         if (dominant == null) return 0;
         float total = 0;
-        for (float val : alignments.values()) {
+        for (float val : values) {
             total += val;
         }
         if (total == 0) return 0;
@@ -246,6 +428,7 @@ public class AlignmentData {
         lastKillX = x;
         lastKillY = y;
         lastKillZ = z;
+        dirty = true;
     }
 
     public int getSpatialKillCount() {
@@ -271,6 +454,7 @@ public class AlignmentData {
     public void setFractureLevel(float level) {
         this.fractureLevel = Math.max(0, level);
         this.isFractured = this.fractureLevel > 0;
+        markChanged();
     }
 
     public long getLastUpdateTimestamp() {
@@ -278,7 +462,10 @@ public class AlignmentData {
     }
 
     public void setLastUpdateTimestamp(long timestamp) {
-        this.lastUpdateTimestamp = timestamp;
+        if (this.lastUpdateTimestamp != timestamp) {
+            this.lastUpdateTimestamp = timestamp;
+            dirty = true;
+        }
     }
 
     public boolean isApex() {
@@ -286,24 +473,44 @@ public class AlignmentData {
     }
 
     public void setApex(boolean apex) {
-        this.isApex = apex;
+        if (this.isApex != apex) {
+            this.isApex = apex;
+            markChanged();
+        }
     }
 
     public boolean isFractured() {
         return isFractured;
     }
 
-    public Map<String, Long> getKillTimestamps() {
-        return killTimestamps;
+    public long getLastKillTick(AlignmentType type) {
+        return lastKillTicks[type.ordinal()];
     }
 
-    public Map<String, Integer> getKillCounts() {
-        return killCounts;
+    public boolean isKillOnCooldown(AlignmentType type, long currentTick, int cooldownTicks) {
+        long lastKill = lastKillTicks[type.ordinal()];
+        return lastKill != NO_KILL && (currentTick - lastKill) < cooldownTicks;
+    }
+
+    public int getWindowKillCount(AlignmentType type, long currentTick, int windowTicks) {
+        int index = type.ordinal();
+        long lastKill = lastKillTicks[index];
+        if (lastKill != NO_KILL && (currentTick - lastKill) > windowTicks) {
+            return 0;
+        }
+        return windowKillCounts[index];
+    }
+
+    public void recordKill(AlignmentType type, long currentTick, int windowKills) {
+        int index = type.ordinal();
+        lastKillTicks[index] = currentTick;
+        windowKillCounts[index] = windowKills + 1;
+        dirty = true;
     }
 
     public float getDominantValue() {
         if (dominant == null) return 0;
-        return alignments.getOrDefault(dominant, 0.0f);
+        return values[dominant.ordinal()];
     }
 
     public int getMomentumStreak() {
@@ -322,12 +529,22 @@ public class AlignmentData {
         return totalKills;
     }
 
-    public Map<AlignmentType, Integer> getKillsByAlignment() {
-        return Collections.unmodifiableMap(killsByAlignment);
+    public int getKills(AlignmentType type) {
+        return killsByAlignment[type.ordinal()];
+    }
+
+    public int getShiftHistorySize() {
+        return historySize;
     }
 
     public List<AlignmentShift> getShiftHistory() {
-        return Collections.unmodifiableList(shiftHistory);
+        List<AlignmentShift> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            int slot = (historyHead + i) % HISTORY_CAPACITY;
+            history.add(new AlignmentShift(AlignmentType.byOrdinal(historyTypes[slot]),
+                    historyAmounts[slot], historyTimes[slot], historyCounts[slot]));
+        }
+        return Collections.unmodifiableList(history);
     }
 
     public float getResonanceBonus() {
@@ -335,7 +552,10 @@ public class AlignmentData {
     }
 
     public void setResonanceBonus(float bonus) {
-        this.resonanceBonus = bonus;
+        if (this.resonanceBonus != bonus) {
+            this.resonanceBonus = bonus;
+            dirty = true;
+        }
     }
 
     public long getLastResonanceCheck() {
@@ -351,7 +571,10 @@ public class AlignmentData {
     }
 
     public void setSoulEchoActive(boolean active) {
-        this.soulEchoActive = active;
+        if (this.soulEchoActive != active) {
+            this.soulEchoActive = active;
+            dirty = true;
+        }
     }
 
     public long getSoulEchoExpiry() {
@@ -359,93 +582,209 @@ public class AlignmentData {
     }
 
     public void setSoulEchoExpiry(long expiry) {
-        this.soulEchoExpiry = expiry;
+        if (this.soulEchoExpiry != expiry) {
+            this.soulEchoExpiry = expiry;
+            dirty = true;
+        }
+    }
+
+    public long getJournalSeq() {
+        return journalSeq;
+    }
+
+    public void setJournalSeq(long seq) {
+        if (this.journalSeq != seq) {
+            this.journalSeq = seq;
+            dirty = true;
+        }
     }
 
     public boolean isTranscendent() {
         return getDominantTier() == AlignmentType.Tier.TRANSCENDENT;
     }
 
-    public NbtCompound toNbt() {
-        NbtCompound nbt = new NbtCompound();
+    public long getVersion() {
+        return version;
+    }
 
-        NbtCompound alignNbt = new NbtCompound();
-        for (Map.Entry<AlignmentType, Float> entry : alignments.entrySet()) {
-            alignNbt.putFloat(entry.getKey().getId(), entry.getValue());
+    private void markChanged() {
+        version++;
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void invalidateCache() {
+        cachedNbt = null;
+        dirty = true;
+    }
+
+    public NbtCompound toCachedNbt() {
+        if (dirty || cachedNbt == null) {
+            cachedNbt = toNbt();
+            dirty = false;
         }
-        nbt.put("Alignments", alignNbt);
+        return cachedNbt.copy();
+    }
 
-        if (dominant != null) {
-            nbt.putString("Dominant", dominant.getId());
+    public AlignmentSnapshot getSnapshot(float apexThreshold) {
+        AlignmentSnapshot current = snapshot;
+        if (current != null && current.version() == version && current.apexThreshold() == apexThreshold) {
+            return current;
         }
-        if (secondary != null) {
-            nbt.putString("Secondary", secondary.getId());
+        float dominantValue = getDominantValue();
+        AlignmentType.Tier tier = getDominantTier();
+        current = new AlignmentSnapshot(version, apexThreshold, dominant, secondary, dominantValue,
+                dominant == null ? 0 : Math.min(dominantValue / apexThreshold, 1.0f), tier,
+                getSynergyBonus(), getConflictPenalty(), isApex, tier == AlignmentType.Tier.TRANSCENDENT,
+                isFractured, fractureLevel);
+        snapshot = current;
+        return current;
+    }
+
+    public NbtCompound toNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putByte("Format", NBT_FORMAT);
+
+        int[] packedValues = new int[AlignmentType.COUNT];
+        for (int i = 0; i < packedValues.length; i++) {
+            packedValues[i] = Float.floatToRawIntBits(values[i]);
+        }
+        nbt.putIntArray("Values", packedValues);
+
+        nbt.putIntArray("Types", new int[]{
+                ordinalOf(dominant), ordinalOf(secondary), ordinalOf(previousDominant), ordinalOf(momentumType)
+        });
+        nbt.putIntArray("Counters", new int[]{
+                momentumStreak, totalKills, spatialKillCount,
+                (isApex ? FLAG_APEX : 0) | (isFractured ? FLAG_FRACTURED : 0) | (soulEchoActive ? FLAG_ECHO : 0)
+        });
+        nbt.putIntArray("Scalars", new int[]{
+                Float.floatToRawIntBits(fractureLevel),
+                Float.floatToRawIntBits(momentumMultiplier),
+                Float.floatToRawIntBits(resonanceBonus)
+        });
+        nbt.putLongArray("Ticks", new long[]{
+                lastUpdateTimestamp, lastResonanceCheck, soulEchoExpiry, dominantChangedAt, journalSeq
+        });
+        nbt.putLongArray("KillPos", new long[]{
+                Double.doubleToRawLongBits(lastKillX),
+                Double.doubleToRawLongBits(lastKillY),
+                Double.doubleToRawLongBits(lastKillZ)
+        });
+
+        nbt.putLongArray("KillTicks", lastKillTicks.clone());
+        nbt.putIntArray("KillWindow", windowKillCounts.clone());
+        nbt.putIntArray("KillTotals", killsByAlignment.clone());
+
+        int[] historyPacked = new int[historySize * 3];
+        long[] historyTicks = new long[historySize];
+        for (int i = 0; i < historySize; i++) {
+            int slot = (historyHead + i) % HISTORY_CAPACITY;
+            historyPacked[i * 3] = historyTypes[slot];
+            historyPacked[i * 3 + 1] = Float.floatToRawIntBits(historyAmounts[slot]);
+            historyPacked[i * 3 + 2] = historyCounts[slot];
+            historyTicks[i] = historyTimes[slot];
+        }
+        nbt.putIntArray("History", historyPacked);
+        nbt.putLongArray("HistoryTimes", historyTicks);
+
+        return nbt;
+    }
+
+    public static AlignmentData fromNbt(NbtCompound nbt) {
+        AlignmentData data = new AlignmentData();
+
+        if (nbt.getByte("Format") >= NBT_FORMAT) {
+            readCompactNbt(data, nbt);
+        } else {
+            readLegacyNbt(data, nbt);
         }
-        if (previousDominant != null) {
-            nbt.putString("PreviousDominant", previousDominant.getId());
+
+        data.rebuildRanking();
+        data.recalculateDominance();
+        return data;
+    }
+
+    private static void readCompactNbt(AlignmentData data, NbtCompound nbt) {
+        int[] packedValues = nbt.getIntArray("Values");
+        for (int i = 0; i < Math.min(packedValues.length, AlignmentType.COUNT); i++) {
+            data.values[i] = Float.intBitsToFloat(packedValues[i]);
         }
-        nbt.putFloat("FractureLevel", fractureLevel);
-        nbt.putLong("LastUpdate", lastUpdateTimestamp);
-        nbt.putBoolean("IsApex", isApex);
-        nbt.putBoolean("IsFractured", isFractured);
 
-        NbtCompound killTimestampNbt = new NbtCompound();
-        for (Map.Entry<String, Long> entry : killTimestamps.entrySet()) {
-            killTimestampNbt.putLong(entry.getKey(), entry.getValue());
+        int[] types = nbt.getIntArray("Types");
+        if (types.length >= 4) {
+            data.dominant = AlignmentType.byOrdinal(types[0]);
+            data.secondary = AlignmentType.byOrdinal(types[1]);
+            data.previousDominant = AlignmentType.byOrdinal(types[2]);
+            data.momentumType = AlignmentType.byOrdinal(types[3]);
         }
-        nbt.put("KillTimestamps", killTimestampNbt);
 
-        NbtCompound killCountNbt = new NbtCompound();
-        for (Map.Entry<String, Integer> entry : killCounts.entrySet()) {
-            killCountNbt.putInt(entry.getKey(), entry.getValue());
+        int[] counters = nbt.getIntArray("Counters");
+        if (counters.length >= 4) {
+            data.momentumStreak = counters[0];
+            data.totalKills = counters[1];
+            data.spatialKillCount = counters[2];
+            data.isApex = (counters[3] & FLAG_APEX) != 0;
+            data.isFractured = (counters[3] & FLAG_FRACTURED) != 0;
+            data.soulEchoActive = (counters[3] & FLAG_ECHO) != 0;
         }
-        nbt.put("KillCounts", killCountNbt);
 
-        nbt.putInt("MomentumStreak", momentumStreak);
-        if (momentumType != null) {
-            nbt.putString("MomentumType", momentumType.getId());
+        int[] scalars = nbt.getIntArray("Scalars");
+        if (scalars.length >= 3) {
+            data.fractureLevel = Float.intBitsToFloat(scalars[0]);
+            data.momentumMultiplier = Float.intBitsToFloat(scalars[1]);
+            data.resonanceBonus = Float.intBitsToFloat(scalars[2]);
         }
-        nbt.putFloat("MomentumMultiplier", momentumMultiplier);
-        nbt.putInt("TotalKills", totalKills);
 
-        NbtCompound killsByAlignNbt = new NbtCompound();
-        for (Map.Entry<AlignmentType, Integer> entry : killsByAlignment.entrySet()) {
-            killsByAlignNbt.putInt(entry.getKey().getId(), entry.getValue());
+        long[] ticks = nbt.getLongArray("Ticks");
+        if (ticks.length >= 4) {
+            data.lastUpdateTimestamp = ticks[0];
+            data.lastResonanceCheck = ticks[1];
+            data.soulEchoExpiry = ticks[2];
+            data.dominantChangedAt = ticks[3];
+        }
+        if (ticks.length >= 5) {
+            data.journalSeq = ticks[4];
         }
-        nbt.put("KillsByAlignment", killsByAlignNbt);
 
-        nbt.putDouble("LastKillX", lastKillX);
-        nbt.putDouble("LastKillY", lastKillY);
-        nbt.putDouble("LastKillZ", lastKillZ);
-        nbt.putInt("SpatialKillCount", spatialKillCount);
+        long[] killPos = nbt.getLongArray("KillPos");
+        if (killPos.length >= 3) {
+            data.lastKillX = Double.longBitsToDouble(killPos[0]);
+            data.lastKillY = Double.longBitsToDouble(killPos[1]);
+            data.lastKillZ = Double.longBitsToDouble(killPos[2]);
+        }
 
-        nbt.putFloat("ResonanceBonus", resonanceBonus);
-        nbt.putLong("LastResonanceCheck", lastResonanceCheck);
-        nbt.putBoolean("SoulEchoActive", soulEchoActive);
-        nbt.putLong("SoulEchoExpiry", soulEchoExpiry);
-        nbt.putLong("DominantChangedAt", dominantChangedAt);
+        long[] killTicks = nbt.getLongArray("KillTicks");
+        System.arraycopy(killTicks, 0, data.lastKillTicks, 0, Math.min(killTicks.length, AlignmentType.COUNT));
+        int[] killWindow = nbt.getIntArray("KillWindow");
+        System.arraycopy(killWindow, 0, data.windowKillCounts, 0, Math.min(killWindow.length, AlignmentType.COUNT));
+        int[] killTotals = nbt.getIntArray("KillTotals");
+        System.arraycopy(killTotals, 0, data.killsByAlignment, 0, Math.min(killTotals.length, AlignmentType.COUNT));
 
-        NbtList historyList = new NbtList();
-        for (AlignmentShift shift : shiftHistory) {
-            NbtCompound shiftNbt = new NbtCompound();
-            shiftNbt.putString("Type", shift.type().getId());
-            shiftNbt.putFloat("Amount", shift.amount());
-            shiftNbt.putLong("Time", shift.timestamp());
-            historyList.add(shiftNbt);
+        int[] history = nbt.getIntArray("History");
+        long[] historyTicks = nbt.getLongArray("HistoryTimes");
+        int entries = Math.min(history.length / 3, historyTicks.length);
+        for (int i = 0; i < entries; i++) {
+            if (AlignmentType.byOrdinal(history[i * 3]) != null) {
+                data.appendShift(history[i * 3], Float.intBitsToFloat(history[i * 3 + 1]),
+                        history[i * 3 + 2], historyTicks[i]);
+            }
         }
-        nbt.put("ShiftHistory", historyList);
-
-        return nbt;
     }
 
-    public static AlignmentData fromNbt(NbtCompound nbt) {
-        AlignmentData data = new AlignmentData();
+    private static int ordinalOf(AlignmentType type) {
+        return type == null ? -1 : type.ordinal();
+    }
 
+    private static void readLegacyNbt(AlignmentData data, NbtCompound nbt) {
         if (nbt.contains("Alignments")) {
             NbtCompound alignNbt = nbt.getCompound("Alignments");
             for (AlignmentType type : AlignmentType.values()) {
                 if (alignNbt.contains(type.getId())) {
-                    data.alignments.put(type, alignNbt.getFloat(type.getId()));
+                    data.values[type.ordinal()] = alignNbt.getFloat(type.getId());
                 }
             }
         }
@@ -464,18 +803,13 @@ public class AlignmentData {
         data.isApex = nbt.getBoolean("IsApex");
         data.isFractured = nbt.getBoolean("IsFractured");
 
-        if (nbt.contains("KillTimestamps")) {
-            NbtCompound killTimestampNbt = nbt.getCompound("KillTimestamps");
-            for (String key : killTimestampNbt.getKeys()) {
-                data.killTimestamps.put(key, killTimestampNbt.getLong(key));
-            }
-        }
-
-        if (nbt.contains("KillCounts")) {
-            NbtCompound killCountNbt = nbt.getCompound("KillCounts");
-            for (String key : killCountNbt.getKeys()) {
-                data.killCounts.put(key, killCountNbt.getInt(key));
+        NbtCompound killTimestampNbt = nbt.getCompound("KillTimestamps");
+        NbtCompound killCountNbt = nbt.getCompound("KillCounts");
+        for (AlignmentType type : AlignmentType.values()) {
+            if (killTimestampNbt.contains(type.getId())) {
+                data.lastKillTicks[type.ordinal()] = killTimestampNbt.getLong(type.getId());
             }
+            data.windowKillCounts[type.ordinal()] = killCountNbt.getInt(type.getId());
         }
 
         data.momentumStreak = nbt.getInt("MomentumStreak");
@@ -489,7 +823,7 @@ public class AlignmentData {
             NbtCompound killsByAlignNbt = nbt.getCompound("KillsByAlignment");
             for (AlignmentType type : AlignmentType.values()) {
                 if (killsByAlignNbt.contains(type.getId())) {
-                    data.killsByAlignment.put(type, killsByAlignNbt.getInt(type.getId()));
+                    data.killsByAlignment[type.ordinal()] = killsByAlignNbt.getInt(type.getId());
                 }
             }
         }
@@ -511,16 +845,63 @@ public class AlignmentData {
                 NbtCompound shiftNbt = historyList.getCompound(i);
                 AlignmentType type = AlignmentType.fromId(shiftNbt.getString("Type"));
                 if (type != null) {
-                    data.shiftHistory.add(new AlignmentShift(
-                            type, shiftNbt.getFloat("Amount"), shiftNbt.getLong("Time")
-                    ));
+                    int count = shiftNbt.contains("Count") ? shiftNbt.getInt("Count") : 1;
+                    data.appendShift(type.ordinal(), shiftNbt.getFloat("Amount"), count, shiftNbt.getLong("Time"));
                 }
             }
         }
-
-        data.recalculateDominance();
-        return data;
     }
 
-    public record AlignmentShift(AlignmentType type, float amount, long timestamp) {}
+    public record AlignmentShift(AlignmentType type, float amount, long timestamp, int count) {}
+
+    private final class AlignmentView extends AbstractMap<AlignmentType, Float> {
+        private Set<Map.Entry<AlignmentType, Float>> entrySet;
+
+        @Override
+        public Float get(Object key) {
+            return key instanceof AlignmentType type ? values[type.ordinal()] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof AlignmentType;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public Set<Map.Entry<AlignmentType, Float>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Map.Entry<AlignmentType, Float>> iterator() {
+                        return new Iterator<>() {
+                            private int index;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < values.length;
+                            }
+
+                            @Override
+                            public Map.Entry<AlignmentType, Float> next() {
+                                if (index >= values.length) throw new NoSuchElementException();
+                                AlignmentType type = AlignmentType.byOrdinal(index);
+                                return new SimpleImmutableEntry<>(type, values[index++]);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return values.length;
+                    }
+                };
+            }
+            return entrySet;
+        }
+    }
 }
@@ -0,0 +1,11 @@
+package dev.soulbound.alignment;
+
+public record AlignmentSnapshot(long version, float apexThreshold, AlignmentType dominant, AlignmentType secondary,
+                                float dominantValue, float apexProgress, AlignmentType.Tier tier, float synergyBonus,
+                                float conflictPenalty, boolean apex, boolean transcendent, boolean fractured,
+                                float fractureLevel) {
+
+    public boolean hasDominant() {
+        return dominant != null;
+    }
+}
@@ -14,6 +14,9 @@ public enum AlignmentType {
     ORDER("order", "Order", 0xFFD700, "Civilization's light burns within you.", Formatting.GOLD),
     SAVAGERY("savagery", "Savagery", 0x708090, "The frenzy of battle consumes you.", Formatting.GRAY);
 
+    private static final AlignmentType[] VALUES = values();
+    public static final int COUNT = VALUES.length;
+
     private final String id;
     private final String displayName;
     private final int color;
@@ -80,8 +83,12 @@ public enum AlignmentType {
         };
     }
 
+    public static AlignmentType byOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < COUNT ? VALUES[ordinal] : null;
+    }
+
     public static AlignmentType fromId(String id) {
-        for (AlignmentType type : values()) {
+        for (AlignmentType type : VALUES) {
             if (type.id.equals(id)) {
                 return type;
             }
@@ -5,10 +5,15 @@ import com.mojang.brigadier.arguments.FloatArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.effect.StatusEffectArbiter;
+import dev.soulbound.handler.AlignmentEffectApplicator;
+import dev.soulbound.handler.ResonanceCluster;
+import dev.soulbound.scheduler.BudgetedExecutor;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -17,6 +22,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
 import java.util.Map;
+import java.util.UUID;
 
 public class SoulCommand {
     private final ConfigManager configManager;
@@ -46,6 +52,11 @@ public class SoulCommand {
                                 .executes(this::showHelp))
                         .then(CommandManager.literal("lore")
                                 .executes(this::showLore))
+                        .then(CommandManager.literal("resonance")
+                                .executes(this::showResonance))
+                        .then(CommandManager.literal("perf")
+                                .requires(source -> source.hasPermissionLevel(2))
+                                .executes(this::showPerf))
                         .then(CommandManager.literal("trait")
                                 .requires(source -> source.hasPermissionLevel(2))
                                 .then(CommandManager.argument("alignment", StringArgumentType.word())
@@ -55,6 +66,11 @@ public class SoulCommand {
         );
     }
 
+    private AlignmentData getAlignmentData(ServerPlayerEntity player) {
+        SoulboundMod.getAlignmentManager().applyPendingDecay(player);
+        return ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+    }
+
     private int showSummary(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         if (!(source.getEntity() instanceof ServerPlayerEntity player)) {
@@ -62,7 +78,7 @@ public class SoulCommand {
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        AlignmentData data = getAlignmentData(player);
 
         player.sendMessage(Text.literal("═══════ Soul Alignment ═══════")
                 .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
@@ -146,7 +162,7 @@ float synergy = data.getSynergyBonus();
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        AlignmentData data = getAlignmentData(player);
 
         player.sendMessage(Text.literal("═══════ Soul Details ═══════")
                 .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
@@ -176,7 +192,7 @@ float synergy = data.getSynergyBonus();
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        AlignmentData data = getAlignmentData(player);
 
         player.sendMessage(Text.literal("═══════ Shift History ═══════")
                 .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
@@ -196,6 +212,10 @@ float synergy = data.getSynergyBonus();
                             .formatted(shift.type().getFormatting()))
                     .append(Text.literal(String.format(" +%.1f", shift.amount()))
                             .formatted(Formatting.WHITE));
+            if (shift.count() > 1) {
+                line.append(Text.literal(" (x" + shift.count() + ")")
+                        .formatted(Formatting.GRAY));
+            }
             player.sendMessage(line, false);
         }
 
@@ -209,7 +229,7 @@ float synergy = data.getSynergyBonus();
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        AlignmentData data = getAlignmentData(player);
 
         player.sendMessage(Text.literal("═══════ Soul Statistics ═══════")
                 .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
@@ -217,10 +237,11 @@ float synergy = data.getSynergyBonus();
         player.sendMessage(Text.literal("  Total Kills: " + data.getTotalKills())
                 .formatted(Formatting.WHITE), false);
 
-        for (Map.Entry<AlignmentType, Integer> entry : data.getKillsByAlignment().entrySet()) {
-            if (entry.getValue() > 0) {
-                player.sendMessage(Text.literal("    " + entry.getKey().getDisplayName() + ": " + entry.getValue())
-                        .formatted(entry.getKey().getFormatting()), false);
+        for (AlignmentType type : AlignmentType.values()) {
+            int kills = data.getKills(type);
+            if (kills > 0) {
+                player.sendMessage(Text.literal("    " + type.getDisplayName() + ": " + kills)
+                        .formatted(type.getFormatting()), false);
             }
         }
 
@@ -233,6 +254,53 @@ float synergy = data.getSynergyBonus();
         return 1;
     }
 
+    private int showResonance(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        if (!(source.getEntity() instanceof ServerPlayerEntity player)) {
+            source.sendError(Text.literal("This command can only be used by players."));
+            return 0;
+        }
+
+        AlignmentData data = getAlignmentData(player);
+
+        player.sendMessage(Text.literal("═══════ Soul Resonance ═══════")
+                .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
+
+        ResonanceCluster cluster = SoulboundMod.getResonanceHandler().getCluster(player.getUuid());
+        if (cluster == null) {
+            player.sendMessage(Text.literal("  No kindred souls nearby.")
+                    .formatted(Formatting.GRAY), false);
+            return 1;
+        }
+
+        player.sendMessage(Text.literal("  Group of " + cluster.members().size() + " souls — bonus +"
+                        + String.format("%.0f%%", data.getResonanceBonus() * 100))
+                .formatted(Formatting.AQUA), false);
+
+        for (AlignmentType type : AlignmentType.values()) {
+            int count = cluster.getCount(type);
+            if (count > 0) {
+                player.sendMessage(Text.literal("    " + type.getDisplayName() + ": " + count)
+                        .formatted(type.getFormatting()), false);
+            }
+        }
+
+        for (UUID memberId : cluster.members()) {
+            ServerPlayerEntity member = source.getServer().getPlayerManager().getPlayer(memberId);
+            if (member == null || member == player) continue;
+            AlignmentType memberDominant = ((AlignmentDataAccessor) member).soulbound$getAlignmentData().getDominant();
+            MutableText line = Text.literal("  ◇ " + member.getName().getString())
+                    .formatted(Formatting.WHITE);
+            if (memberDominant != null) {
+                line.append(Text.literal(" (" + memberDominant.getDisplayName() + ")")
+                        .formatted(memberDominant.getFormatting()));
+            }
+            player.sendMessage(line, false);
+        }
+
+        return 1;
+    }
+
     private int showHelp(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         if (!(source.getEntity() instanceof ServerPlayerEntity player)) {
@@ -262,10 +330,18 @@ float synergy = data.getSynergyBonus();
                 .formatted(Formatting.GOLD)
                 .append(Text.literal(" — Show alignment lore")
                         .formatted(Formatting.GRAY)), false);
+        player.sendMessage(Text.literal("  /soul resonance")
+                .formatted(Formatting.GOLD)
+                .append(Text.literal(" — Show your resonance group")
+                        .formatted(Formatting.GRAY)), false);
         player.sendMessage(Text.literal("  /soul trait <alignment> <amount>")
                 .formatted(Formatting.GOLD)
                 .append(Text.literal(" — Grant alignment points (OP)")
                         .formatted(Formatting.GRAY)), false);
+        player.sendMessage(Text.literal("  /soul perf")
+                .formatted(Formatting.GOLD)
+                .append(Text.literal(" — Show tick budget statistics (OP)")
+                        .formatted(Formatting.GRAY)), false);
 
         return 1;
     }
@@ -286,8 +362,9 @@ float synergy = data.getSynergyBonus();
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
-        data.addAlignment(type, amount);
+        AlignmentData data = getAlignmentData(player);
+        SoulboundMod.getAlignmentManager().grantAlignment(player, type, amount);
+        AlignmentEffectApplicator.refresh(player, configManager);
 
         player.sendMessage(Text.literal("═══════ Soul Trait Granted ═══════")
                 .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
@@ -309,6 +386,29 @@ float synergy = data.getSynergyBonus();
         return 1;
     }
 
+    private int showPerf(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        BudgetedExecutor executor = SoulboundMod.getTickScheduler().getExecutor();
+        StatusEffectArbiter arbiter = SoulboundMod.getEffectArbiter();
+
+        source.sendFeedback(() -> Text.literal("═══════ Soulbound Performance ═══════")
+                .formatted(Formatting.DARK_PURPLE, Formatting.BOLD), false);
+        source.sendFeedback(() -> Text.literal("  Budget: " + configManager.getTickBudgetMicros() + "µs/tick, max deferral "
+                + configManager.getMaxDeferralTicks() + " ticks").formatted(Formatting.GRAY), false);
+        source.sendFeedback(() -> Text.literal("  Last tick: " + executor.getLastTickExecuted() + " units in "
+                + executor.getLastTickMicros() + "µs").formatted(Formatting.WHITE), false);
+        source.sendFeedback(() -> Text.literal("  Queue depth: " + executor.getQueueDepth()
+                + " (peak " + executor.getPeakDepth() + ")").formatted(Formatting.WHITE), false);
+        source.sendFeedback(() -> Text.literal("  Executed: " + executor.getExecutedTotal()
+                + "  Forced: " + executor.getForcedTotal()).formatted(Formatting.WHITE), false);
+        source.sendFeedback(() -> Text.literal("  Deferred units: " + executor.getDeferredTotal()
+                + " across " + executor.getDeferredTicks() + " ticks").formatted(Formatting.YELLOW), false);
+        source.sendFeedback(() -> Text.literal("  Effects: " + arbiter.getAppliedTotal() + " applied of "
+                + arbiter.getRequestedTotal() + " requested").formatted(Formatting.WHITE), false);
+
+        return 1;
+    }
+
     private int showLore(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
         if (!(source.getEntity() instanceof ServerPlayerEntity player)) {
@@ -316,7 +416,7 @@ float synergy = data.getSynergyBonus();
             return 0;
         }
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        AlignmentData data = getAlignmentData(player);
         AlignmentType dominant = data.getDominant();
 
         player.sendMessage(Text.literal("═══════ Soul Lore ═══════")
@@ -12,8 +12,10 @@ import java.nio.file.Path;
 public class ConfigManager {
     private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
     private SoulboundConfig config;
+    private int epoch;
 
     public void load() {
+        epoch++;
         Path configPath = getConfigPath();
         if (Files.exists(configPath)) {
             try {
@@ -46,6 +48,7 @@ public class ConfigManager {
     }
 
     public SoulboundConfig getConfig() { return config; }
+    public int getEpoch() { return epoch; }
     public boolean isEnabled() { return config.globalEnabled; }
     public float getAlignmentGainRate() { return config.alignmentGainRate; }
     public float getAlignmentDecayRate() { return config.alignmentDecayRate; }
@@ -83,6 +86,9 @@ public class ConfigManager {
     public boolean isSoulEchoEnabled() { return config.soulEchoEnabled; }
     public int getSoulEchoDurationTicks() { return config.soulEchoDurationTicks; }
     public float getSoulEchoRadius() { return config.soulEchoRadius; }
+    public float getSoulEchoMergeRadius() { return config.soulEchoMergeRadius; }
+    public float getSoulEchoMaxStrength() { return config.soulEchoMaxStrength; }
+    public int getMaxEchoesPerChunk() { return config.maxEchoesPerChunk; }
     public float getFractureSeverityMultiplier() { return config.fractureSeverityMultiplier; }
     public boolean isFractureRealityTearEnabled() { return config.fractureRealityTearEnabled; }
     public int getFractureEffectInterval() { return config.fractureEffectInterval; }
@@ -96,6 +102,14 @@ public class ConfigManager {
     public boolean isCommandEnabled() { return config.commandEnabled; }
     public boolean isSecondaryAlignmentEnabled() { return config.secondaryAlignmentEnabled; }
     public float getSecondaryAlignmentRatio() { return config.secondaryAlignmentRatio; }
+    public boolean isAutoClassifyEnabled() { return config.autoClassifyEnabled; }
+    public float getAutoClassifyWeightMultiplier() { return config.autoClassifyWeightMultiplier; }
     public boolean isPassiveMobFearEnabled() { return config.passiveMobFearEnabled; }
     public float getPassiveMobFearRadius() { return config.passiveMobFearRadius; }
+    public int getTargetDecisionHoldTicks() { return config.targetDecisionHoldTicks; }
+    public boolean isJournalEnabled() { return config.journalEnabled; }
+    public int getJournalCommitIntervalMs() { return config.journalCommitIntervalMs; }
+    public int getTickBudgetMicros() { return config.tickBudgetMicros; }
+    public int getMaxDeferralTicks() { return config.maxDeferralTicks; }
+    public float getEffectRefreshThreshold() { return config.effectRefreshThreshold; }
 }
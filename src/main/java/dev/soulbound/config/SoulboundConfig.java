@@ -45,6 +45,9 @@ public boolean resonanceEnabled = true;
 public boolean soulEchoEnabled = true;
     public int soulEchoDurationTicks = 6000;
     public float soulEchoRadius = 8.0f;
+    public float soulEchoMergeRadius = 4.0f;
+    public float soulEchoMaxStrength = 2.0f;
+    public int maxEchoesPerChunk = 4;
 
 public float fractureSeverityMultiplier = 1.0f;
     public boolean fractureRealityTearEnabled = true;
@@ -65,6 +68,17 @@ public boolean commandEnabled = true;
 public boolean secondaryAlignmentEnabled = true;
     public float secondaryAlignmentRatio = 0.35f;
 
+public boolean autoClassifyEnabled = true;
+    public float autoClassifyWeightMultiplier = 0.8f;
+
 public boolean passiveMobFearEnabled = true;
     public float passiveMobFearRadius = 8.0f;
+    public int targetDecisionHoldTicks = 60;
+
+public boolean journalEnabled = true;
+    public int journalCommitIntervalMs = 200;
+
+public int tickBudgetMicros = 2000;
+    public int maxDeferralTicks = 20;
+    public float effectRefreshThreshold = 0.5f;
 }
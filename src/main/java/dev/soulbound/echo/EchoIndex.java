@@ -0,0 +1,135 @@
+package dev.soulbound.echo;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EchoIndex {
+    private static final int WHEEL_SLOTS = 256;
+
+    private final int slotTicks;
+    private final Long2ObjectOpenHashMap<List<SoulEcho>> byChunk = new Long2ObjectOpenHashMap<>();
+    private final List<List<SoulEcho>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private final Reference2IntOpenHashMap<SoulEcho> wheelSlots = new Reference2IntOpenHashMap<>();
+    private long processedSlot = Long.MIN_VALUE;
+    private int size;
+    private float maxRadius;
+
+    public EchoIndex(int slotTicks) {
+        this.slotTicks = slotTicks;
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        wheelSlots.defaultReturnValue(-1);
+    }
+
+    public void add(SoulEcho echo, long now) {
+        if (processedSlot == Long.MIN_VALUE) {
+            processedSlot = Math.floorDiv(now, slotTicks);
+        }
+
+        long slot = Math.max(ceilDiv(echo.expiry(), slotTicks), processedSlot + 1);
+        int wheelSlot = (int) Math.floorMod(slot, WHEEL_SLOTS);
+        wheel.get(wheelSlot).add(echo);
+        wheelSlots.put(echo, wheelSlot);
+        byChunk.computeIfAbsent(echo.chunkKey(), key -> new ArrayList<>()).add(echo);
+        maxRadius = Math.max(maxRadius, echo.radius());
+        size++;
+    }
+
+    public void remove(SoulEcho echo) {
+        if (!unlink(echo)) return;
+        int wheelSlot = wheelSlots.removeInt(echo);
+        if (wheelSlot >= 0) {
+            wheel.get(wheelSlot).remove(echo);
+        }
+    }
+
+    public int expire(long now) {
+        if (size == 0) {
+            processedSlot = Math.floorDiv(now, slotTicks);
+            return 0;
+        }
+
+        long nowSlot = Math.floorDiv(now, slotTicks);
+        long steps = Math.min(nowSlot - processedSlot, WHEEL_SLOTS);
+        int expired = 0;
+        for (long i = 1; i <= steps; i++) {
+            List<SoulEcho> bucket = wheel.get((int) Math.floorMod(processedSlot + i, WHEEL_SLOTS));
+            int write = 0;
+            for (int read = 0; read < bucket.size(); read++) {
+                SoulEcho echo = bucket.get(read);
+                if (echo.expiry() <= now) {
+                    unlink(echo);
+                    wheelSlots.removeInt(echo);
+                    expired++;
+                } else {
+                    bucket.set(write++, echo);
+                }
+            }
+            bucket.subList(write, bucket.size()).clear();
+        }
+        processedSlot = Math.max(processedSlot, nowSlot);
+        return expired;
+    }
+
+    public List<SoulEcho> queryNear(double x, double z, double margin, List<SoulEcho> out) {
+        out.clear();
+        if (size == 0) return out;
+
+        int span = MathHelper.ceil((maxRadius + margin) / 16.0);
+        int cx = MathHelper.floor(x) >> 4;
+        int cz = MathHelper.floor(z) >> 4;
+        for (int dx = -span; dx <= span; dx++) {
+            for (int dz = -span; dz <= span; dz++) {
+                List<SoulEcho> echoes = byChunk.get(ChunkPos.toLong(cx + dx, cz + dz));
+                if (echoes != null) {
+                    out.addAll(echoes);
+                }
+            }
+        }
+        return out;
+    }
+
+    public List<SoulEcho> getEchoesInChunk(long chunkKey) {
+        List<SoulEcho> echoes = byChunk.get(chunkKey);
+        return echoes != null ? echoes : List.of();
+    }
+
+    public List<SoulEcho> collect(List<SoulEcho> out) {
+        out.clear();
+        for (List<SoulEcho> echoes : byChunk.values()) {
+            out.addAll(echoes);
+        }
+        return out;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private boolean unlink(SoulEcho echo) {
+        List<SoulEcho> echoes = byChunk.get(echo.chunkKey());
+        if (echoes == null || !echoes.remove(echo)) return false;
+        if (echoes.isEmpty()) {
+            byChunk.remove(echo.chunkKey());
+        }
+        size--;
+        if (size == 0) {
+            maxRadius = 0;
+        }
+        return true;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.soulbound.echo;
+
+import dev.soulbound.alignment.AlignmentType;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class EchoPersistentState extends PersistentState {
+    public static final String ID = "soulbound_echoes";
+    private static final int NBT_FORMAT = 1;
+    private static final AlignmentType[] TYPES = AlignmentType.values();
+
+    private final EchoIndex index;
+    private final List<SoulEcho> scratch = new ArrayList<>();
+
+    public EchoPersistentState(EchoIndex index) {
+        this.index = index;
+    }
+
+    public EchoIndex getIndex() {
+        return index;
+    }
+
+    public static EchoPersistentState load(ServerWorld world, int slotTicks) {
+        RegistryKey<World> key = world.getRegistryKey();
+        long now = world.getTime();
+        return world.getPersistentStateManager().getOrCreate(
+                nbt -> fromNbt(nbt, key, slotTicks, now),
+                () -> new EchoPersistentState(new EchoIndex(slotTicks)),
+                ID
+        );
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt) {
+        List<SoulEcho> echoes = index.collect(scratch);
+        int count = echoes.size();
+
+        long[] positions = new long[count * 3];
+        byte[] types = new byte[count];
+        int[] scalars = new int[count * 2];
+        long[] expiries = new long[count];
+        long[] owners = new long[count * 2];
+
+        for (int i = 0; i < count; i++) {
+            SoulEcho echo = echoes.get(i);
+            positions[i * 3] = Double.doubleToRawLongBits(echo.position().x);
+            positions[i * 3 + 1] = Double.doubleToRawLongBits(echo.position().y);
+            positions[i * 3 + 2] = Double.doubleToRawLongBits(echo.position().z);
+            types[i] = (byte) echo.alignmentType().ordinal();
+            scalars[i * 2] = Float.floatToRawIntBits(echo.strength());
+            scalars[i * 2 + 1] = Float.floatToRawIntBits(echo.radius());
+            expiries[i] = echo.expiry();
+            owners[i * 2] = echo.ownerUuid().getMostSignificantBits();
+            owners[i * 2 + 1] = echo.ownerUuid().getLeastSignificantBits();
+        }
+        scratch.clear();
+
+        nbt.putInt("Format", NBT_FORMAT);
+        nbt.putLongArray("Positions", positions);
+        nbt.putByteArray("Types", types);
+        nbt.putIntArray("Scalars", scalars);
+        nbt.putLongArray("Expiries", expiries);
+        nbt.putLongArray("Owners", owners);
+        return nbt;
+    }
+
+    private static EchoPersistentState fromNbt(NbtCompound nbt, RegistryKey<World> key, int slotTicks, long now) {
+        EchoPersistentState state = new EchoPersistentState(new EchoIndex(slotTicks));
+        if (nbt.getInt("Format") != NBT_FORMAT) return state;
+
+        long[] positions = nbt.getLongArray("Positions");
+        byte[] types = nbt.getByteArray("Types");
+        int[] scalars = nbt.getIntArray("Scalars");
+        long[] expiries = nbt.getLongArray("Expiries");
+        long[] owners = nbt.getLongArray("Owners");
+
+        int count = types.length;
+        if (positions.length != count * 3 || scalars.length != count * 2
+                || expiries.length != count || owners.length != count * 2) {
+            return state;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (expiries[i] <= now) continue;
+            int ordinal = types[i];
+            if (ordinal < 0 || ordinal >= TYPES.length) continue;
+
+            SoulEcho echo = new SoulEcho(
+                    key,
+                    new Vec3d(Double.longBitsToDouble(positions[i * 3]),
+                            Double.longBitsToDouble(positions[i * 3 + 1]),
+                            Double.longBitsToDouble(positions[i * 3 + 2])),
+                    TYPES[ordinal],
+                    Float.intBitsToFloat(scalars[i * 2]),
+                    expiries[i],
+                    Float.intBitsToFloat(scalars[i * 2 + 1]),
+                    new UUID(owners[i * 2], owners[i * 2 + 1])
+            );
+            state.index.add(echo, now);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,24 @@
+package dev.soulbound.echo;
+
+import dev.soulbound.alignment.AlignmentType;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.UUID;
+
+public record SoulEcho(
+        RegistryKey<World> world,
+        Vec3d position,
+        AlignmentType alignmentType,
+        float strength,
+        long expiry,
+        float radius,
+        UUID ownerUuid
+) {
+    public long chunkKey() {
+        return ChunkPos.toLong(MathHelper.floor(position.x) >> 4, MathHelper.floor(position.z) >> 4);
+    }
+}
@@ -0,0 +1,65 @@
+package dev.soulbound.effect;
+
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.entity.attribute.EntityAttributes;
+
+import java.util.UUID;
+
+public enum ModifierSlot {
+    PASSIVE_SPEED(Group.PASSIVE, EntityAttributes.GENERIC_MOVEMENT_SPEED,
+            "d4f5a6b7-1c2d-3e4f-a5b6-c7d8e9f0a1b2", "soulbound.passive.speed"),
+    PASSIVE_ARMOR(Group.PASSIVE, EntityAttributes.GENERIC_ARMOR,
+            "e5f6b7c8-2d3e-4f5a-b6c7-d8e9f0a1b2c3", "soulbound.passive.armor"),
+    PASSIVE_ATTACK_SPEED(Group.PASSIVE, EntityAttributes.GENERIC_ATTACK_SPEED,
+            "f6a7c8d9-3e4f-5a6b-c7d8-e9f0a1b2c3d4", "soulbound.passive.attack_speed"),
+    PASSIVE_ATTACK_DAMAGE(Group.PASSIVE, EntityAttributes.GENERIC_ATTACK_DAMAGE,
+            "a7b8d9e0-4f5a-6b7c-d8e9-f0a1b2c3d4e5", "soulbound.passive.attack_damage"),
+    PASSIVE_MAX_HEALTH(Group.PASSIVE, EntityAttributes.GENERIC_MAX_HEALTH,
+            "b8c9e0f1-5a6b-7c8d-e9f0-a1b2c3d4e5f6", "soulbound.passive.max_health"),
+    PASSIVE_KNOCKBACK_RESIST(Group.PASSIVE, EntityAttributes.GENERIC_KNOCKBACK_RESISTANCE,
+            "c9d0f1a2-6b7c-8d9e-f0a1-b2c3d4e5f6a7", "soulbound.passive.knockback_resist"),
+    APEX_SPEED(Group.APEX, EntityAttributes.GENERIC_MOVEMENT_SPEED,
+            "a3f2d8c1-7b4e-4f9a-b6c3-8e5d1f0a2b4c", "soulbound.apex.speed"),
+    APEX_ARMOR(Group.APEX, EntityAttributes.GENERIC_ARMOR,
+            "b4e3c9d2-8c5f-4a0b-c7d4-9f6e2a1b3c5d", "soulbound.apex.armor"),
+    APEX_DAMAGE(Group.APEX, EntityAttributes.GENERIC_ATTACK_DAMAGE,
+            "d5f4b0e3-9d6a-4b1c-e8f5-0a7b3c2d4e6f", "soulbound.apex.damage");
+
+    private final Group group;
+    private final EntityAttribute attribute;
+    private final UUID uuid;
+    private final String name;
+
+    ModifierSlot(Group group, EntityAttribute attribute, String uuid, String name) {
+        this.group = group;
+        this.attribute = attribute;
+        this.uuid = UUID.fromString(uuid);
+        this.name = name;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public EntityAttribute getAttribute() {
+        return attribute;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public EntityAttributeModifier.Operation getOperation() {
+        return EntityAttributeModifier.Operation.ADDITION;
+    }
+
+    public enum Group {
+        PASSIVE,
+        APEX
+    }
+}
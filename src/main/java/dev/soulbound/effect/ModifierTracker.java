@@ -0,0 +1,80 @@
+package dev.soulbound.effect;
+
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import net.minecraft.entity.attribute.EntityAttributeModifier;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+public class ModifierTracker {
+    private static final ModifierSlot[] SLOTS = ModifierSlot.values();
+    private static final double EPSILON = 1.0E-4;
+
+    private final boolean[] wanted = new boolean[SLOTS.length];
+    private final double[] wantedAmounts = new double[SLOTS.length];
+    private final boolean[] applied = new boolean[SLOTS.length];
+    private final double[] appliedAmounts = new double[SLOTS.length];
+    private final boolean[] known = new boolean[SLOTS.length];
+
+    public void begin(ModifierSlot.Group group) {
+        for (ModifierSlot slot : SLOTS) {
+            if (slot.getGroup() == group) {
+                wanted[slot.ordinal()] = false;
+            }
+        }
+    }
+
+    public void set(ModifierSlot slot, double amount) {
+        wanted[slot.ordinal()] = true;
+        wantedAmounts[slot.ordinal()] = amount;
+    }
+
+    public int commit(ServerPlayerEntity player, ModifierSlot.Group group) {
+        int changes = 0;
+        for (ModifierSlot slot : SLOTS) {
+            if (slot.getGroup() != group) continue;
+
+            int i = slot.ordinal();
+            if (known[i] && wanted[i] == applied[i]
+                    && (!wanted[i] || Math.abs(wantedAmounts[i] - appliedAmounts[i]) < EPSILON)) {
+                continue;
+            }
+
+            EntityAttributeInstance instance = player.getAttributeInstance(slot.getAttribute());
+            if (instance == null) {
+                known[i] = false;
+                continue;
+            }
+
+            EntityAttributeModifier existing = instance.getModifier(slot.getUuid());
+            if (wanted[i]) {
+                if (existing == null || existing.getOperation() != slot.getOperation()
+                        || Math.abs(existing.getValue() - wantedAmounts[i]) >= EPSILON) {
+                    if (existing != null) {
+                        instance.removeModifier(slot.getUuid());
+                    }
+                    instance.addTemporaryModifier(new EntityAttributeModifier(
+                            slot.getUuid(), slot.getName(), wantedAmounts[i], slot.getOperation()));
+                    changes++;
+                }
+            } else if (existing != null) {
+                instance.removeModifier(slot.getUuid());
+                changes++;
+            }
+
+            applied[i] = wanted[i];
+            appliedAmounts[i] = wantedAmounts[i];
+            known[i] = true;
+        }
+        return changes;
+    }
+
+    public int clear(ServerPlayerEntity player, ModifierSlot.Group group) {
+        begin(group);
+        return commit(player, group);
+    }
+
+    public void invalidate() {
+        for (int i = 0; i < known.length; i++) {
+            known[i] = false;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package dev.soulbound.effect;
+
+public interface ModifierTrackerAccessor {
+    ModifierTracker soulbound$getModifierTracker();
+}
@@ -0,0 +1,119 @@
+package dev.soulbound.effect;
+
+import dev.soulbound.config.ConfigManager;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class StatusEffectArbiter {
+    public static final int NIGHT_VISION_FLICKER_TICKS = 200;
+
+    private final ConfigManager configManager;
+    private final Map<UUID, Reference2LongOpenHashMap<StatusEffect>> requests = new HashMap<>();
+    private final List<UUID> pendingPlayers = new ArrayList<>();
+
+    private long requestedTotal;
+    private long appliedTotal;
+
+    public StatusEffectArbiter(ConfigManager configManager) {
+        this.configManager = configManager;
+    }
+
+    public void request(ServerPlayerEntity player, StatusEffect effect, int duration, int amplifier) {
+        request(player, effect, duration, amplifier, 0);
+    }
+
+    public void request(ServerPlayerEntity player, StatusEffect effect, int duration, int amplifier, int minRemaining) {
+        requestedTotal++;
+
+        Reference2LongOpenHashMap<StatusEffect> pending = requests.get(player.getUuid());
+        if (pending == null) {
+            pending = new Reference2LongOpenHashMap<>();
+            pending.defaultReturnValue(Long.MIN_VALUE);
+            requests.put(player.getUuid(), pending);
+        }
+        if (pending.isEmpty()) {
+            pendingPlayers.add(player.getUuid());
+        }
+
+        long previous = pending.getLong(effect);
+        if (previous != Long.MIN_VALUE) {
+            duration = Math.max(duration, duration(previous));
+            amplifier = Math.max(amplifier, amplifier(previous));
+            minRemaining = Math.max(minRemaining, minRemaining(previous));
+        }
+        pending.put(effect, pack(duration, amplifier, minRemaining));
+    }
+
+    public void flush(MinecraftServer server) {
+        if (pendingPlayers.isEmpty()) return;
+
+        float threshold = configManager.getEffectRefreshThreshold();
+        for (UUID uuid : pendingPlayers) {
+            Reference2LongOpenHashMap<StatusEffect> pending = requests.get(uuid);
+            if (pending == null) continue;
+
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
+            if (player != null && player.isAlive()) {
+                for (Reference2LongMap.Entry<StatusEffect> entry : pending.reference2LongEntrySet()) {
+                    long packed = entry.getLongValue();
+                    int duration = duration(packed);
+                    float refreshBelow = Math.min(duration, Math.max(duration * threshold, minRemaining(packed)));
+                    apply(player, entry.getKey(), duration, amplifier(packed), refreshBelow);
+                }
+            }
+            pending.clear();
+        }
+        pendingPlayers.clear();
+    }
+
+    private void apply(ServerPlayerEntity player, StatusEffect effect, int duration, int amplifier, float refreshBelow) {
+        StatusEffectInstance current = player.getStatusEffect(effect);
+        if (current != null) {
+            if (current.isInfinite() || current.getAmplifier() > amplifier) return;
+            if (current.getAmplifier() == amplifier && current.getDuration() >= refreshBelow) return;
+        }
+
+        player.addStatusEffect(new StatusEffectInstance(effect, duration, amplifier, true, false));
+        appliedTotal++;
+    }
+
+    public void onPlayerDisconnect(UUID uuid) {
+        requests.remove(uuid);
+        pendingPlayers.remove(uuid);
+    }
+
+    public long getRequestedTotal() {
+        return requestedTotal;
+    }
+
+    public long getAppliedTotal() {
+        return appliedTotal;
+    }
+
+    private static long pack(int duration, int amplifier, int minRemaining) {
+        return ((long) Math.min(minRemaining, 0xFFFFFF) << 40) | ((long) (amplifier & 0xFF) << 32)
+                | (duration & 0xFFFFFFFFL);
+    }
+
+    private static int duration(long packed) {
+        return (int) packed;
+    }
+
+    private static int amplifier(long packed) {
+        return (int) (packed >>> 32) & 0xFF;
+    }
+
+    private static int minRemaining(long packed) {
+        return (int) (packed >>> 40);
+    }
+}
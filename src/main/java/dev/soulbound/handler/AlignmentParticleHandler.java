@@ -1,56 +1,50 @@
 package dev.soulbound.handler;
 
-import dev.soulbound.alignment.AlignmentData;
-import dev.soulbound.alignment.AlignmentDataAccessor;
+import dev.soulbound.alignment.AlignmentSnapshot;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.scheduler.PlayerPassContext;
+import dev.soulbound.scheduler.SoulTickScheduler;
 import net.minecraft.particle.ParticleEffect;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 
 public class AlignmentParticleHandler {
     private final ConfigManager configManager;
-    private int tickCounter;
 
     public AlignmentParticleHandler(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled() || !configManager.isParticlesEnabled()) return;
-
-        tickCounter++;
-        if (tickCounter < configManager.getParticleInterval()) return;
-        tickCounter = 0;
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            spawnAlignmentParticles(player);
-        }
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerPlayerStage("particles", configManager::getParticleInterval,
+                () -> configManager.isEnabled() && configManager.isParticlesEnabled(),
+                this::spawnAlignmentParticles);
     }
 
-    private void spawnAlignmentParticles(ServerPlayerEntity player) {
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
-        AlignmentType dominant = data.getDominant();
+    private void spawnAlignmentParticles(PlayerPassContext context) {
+        ServerPlayerEntity player = context.player();
+        AlignmentSnapshot snapshot = context.snapshot();
+        AlignmentType dominant = snapshot.dominant();
         if (dominant == null) return;
 
         ServerWorld world = player.getServerWorld();
-        float strength = Math.min(data.getDominantValue() / configManager.getApexThreshold(), 1.0f);
+        float strength = snapshot.apexProgress();
 
 if (strength < 0.2f) return;
 
-if (data.isFractured()) {
-            spawnFractureParticles(world, player, data);
+if (snapshot.fractured()) {
+            spawnFractureParticles(world, player, snapshot.fractureLevel());
             return;
         }
 
-if (data.isTranscendent()) {
+if (snapshot.transcendent()) {
             spawnTranscendentParticles(world, player, dominant);
             return;
         }
 
-if (data.isApex()) {
+if (snapshot.apex()) {
             spawnApexParticles(world, player, dominant);
             return;
         }
@@ -115,8 +109,7 @@ world.spawnParticles(ParticleTypes.ENCHANT,
                 3, 0.5, 0.1, 0.5, 0.5);
     }
 
-    private void spawnFractureParticles(ServerWorld world, ServerPlayerEntity player, AlignmentData data) {
-        float fractureLevel = data.getFractureLevel();
+    private void spawnFractureParticles(ServerWorld world, ServerPlayerEntity player, float fractureLevel) {
         int intensity = (int) (fractureLevel / 20.0f) + 1;
 
 world.spawnParticles(ParticleTypes.SOUL_FIRE_FLAME,
@@ -1,16 +1,18 @@
 package dev.soulbound.handler;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.effect.ModifierSlot;
+import dev.soulbound.effect.ModifierTracker;
+import dev.soulbound.effect.ModifierTrackerAccessor;
+import dev.soulbound.effect.StatusEffectArbiter;
+import dev.soulbound.scheduler.PlayerPassContext;
+import dev.soulbound.scheduler.SoulTickScheduler;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.attribute.EntityAttributeInstance;
-import net.minecraft.entity.attribute.EntityAttributeModifier;
-import net.minecraft.entity.attribute.EntityAttributes;
-import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
@@ -21,37 +23,32 @@ import java.util.*;
 
 public class ApexStateHandler {
     private static final int CHECK_INTERVAL = 100;
-    private static final UUID APEX_SPEED_UUID = UUID.fromString("a3f2d8c1-7b4e-4f9a-b6c3-8e5d1f0a2b4c");
-    private static final UUID APEX_ARMOR_UUID = UUID.fromString("b4e3c9d2-8c5f-4a0b-c7d4-9f6e2a1b3c5d");
-    private static final UUID APEX_DAMAGE_UUID = UUID.fromString("d5f4b0e3-9d6a-4b1c-e8f5-0a7b3c2d4e6f");
-    private static final String APEX_SPEED_NAME = "soulbound.apex.speed";
-    private static final String APEX_ARMOR_NAME = "soulbound.apex.armor";
-    private static final String APEX_DAMAGE_NAME = "soulbound.apex.damage";
+    private static final int NIGHT_VISION_FLOOR = StatusEffectArbiter.NIGHT_VISION_FLICKER_TICKS + CHECK_INTERVAL;
 
     private final ConfigManager configManager;
-    private int tickCounter;
     private final Map<UUID, Long> abilityCooldowns = new HashMap<>();
     private final Set<UUID> previouslyApex = new HashSet<>();
     private final Set<UUID> previouslyTranscendent = new HashSet<>();
+    private final List<ServerPlayerEntity> nearbyPlayers = new ArrayList<>();
 
     public ApexStateHandler(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled()) return;
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerPlayerStage("apex", () -> CHECK_INTERVAL, configManager::isEnabled, this::processApexState);
+    }
 
-        tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) return;
-        tickCounter = 0;
+    private void processApexState(PlayerPassContext context) {
+        processApexState(context.player(), context.data());
+    }
 
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            processApexState(player);
-        }
+    public void refresh(ServerPlayerEntity player) {
+        if (!configManager.isEnabled()) return;
+        processApexState(player, ((AlignmentDataAccessor) player).soulbound$getAlignmentData());
     }
 
-    private void processApexState(ServerPlayerEntity player) {
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+    private void processApexState(ServerPlayerEntity player, AlignmentData data) {
         float threshold = configManager.getApexThreshold();
         boolean wasApex = data.isApex();
         UUID uuid = player.getUuid();
@@ -72,8 +69,8 @@ if (data.isTranscendent() && !previouslyTranscendent.contains(uuid)) {
             applyApexEffects(player, data);
         } else {
             data.setApex(false);
+            tracker(player).clear(player, ModifierSlot.Group.APEX);
             if (wasApex) {
-                removeApexEffects(player);
                 previouslyApex.remove(uuid);
                 previouslyTranscendent.remove(uuid);
             }
@@ -114,6 +111,8 @@ if (data.isTranscendent() && !previouslyTranscendent.contains(uuid)) {
 
         float multiplier = configManager.getEffectStrengthMultiplier();
         boolean isTranscendent = data.isTranscendent();
+        ModifierTracker tracker = tracker(player);
+        tracker.begin(ModifierSlot.Group.APEX);
 
         switch (dominant) {
             case DECAY -> applyDecayApex(player, multiplier, isTranscendent);
@@ -124,41 +123,43 @@ if (data.isTranscendent() && !previouslyTranscendent.contains(uuid)) {
             case ORDER -> applyOrderApex(player, multiplier, isTranscendent, player.getServerWorld());
             case SAVAGERY -> applySavageryApex(player, multiplier, isTranscendent);
         }
+
+        tracker.commit(player, ModifierSlot.Group.APEX);
     }
 
     private void applyDecayApex(ServerPlayerEntity player, float multiplier, boolean transcendent) {
         addArmorModifier(player, 4.0 * multiplier);
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.RESISTANCE, 300, 0, true, false));
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.ABSORPTION, 300, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.RESISTANCE, 300, 0);
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.ABSORPTION, 300, 0);
 
         if (transcendent) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 300, 1, true, false));
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.ABSORPTION, 300, 2, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.REGENERATION, 300, 1);
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.ABSORPTION, 300, 2);
         }
     }
 
     private void applyPrecisionApex(ServerPlayerEntity player, float multiplier, boolean transcendent) {
         addSpeedModifier(player, 0.04 * multiplier);
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.NIGHT_VISION, 300, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.NIGHT_VISION, 300, 0, NIGHT_VISION_FLOOR);
 
         if (transcendent) {
             addDamageModifier(player, 2.0 * multiplier);
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.GLOWING, 300, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.GLOWING, 300, 0);
         }
     }
 
     private void applyVolatilityApex(ServerPlayerEntity player, float multiplier, boolean transcendent) {
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, 300, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.FIRE_RESISTANCE, 300, 0);
         addDamageModifier(player, 1.5 * multiplier);
 
         if (transcendent) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, 300, 2, true, false));
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.HASTE, 300, 1, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.STRENGTH, 300, 2);
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.HASTE, 300, 1);
         }
     }
 
     private void applyVoidApex(ServerPlayerEntity player, float multiplier, boolean transcendent, AlignmentData data) {
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOW_FALLING, 300, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.SLOW_FALLING, 300, 0);
         addSpeedModifier(player, 0.03 * multiplier);
 
         UUID uuid = player.getUuid();
@@ -173,7 +174,7 @@ if (player.getHealth() < player.getMaxHealth() * 0.3f) {
 }
 
         if (transcendent) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.INVISIBILITY, 300, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.INVISIBILITY, 300, 0);
         }
     }
 
@@ -199,14 +200,14 @@ if (player.getHealth() < player.getMaxHealth() * 0.3f) {
 
         if (isNight) {
             addSpeedModifier(player, 0.06 * multiplier);
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.NIGHT_VISION, 300, 0, true, false));
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.JUMP_BOOST, 300, 1, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.NIGHT_VISION, 300, 0, NIGHT_VISION_FLOOR);
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.JUMP_BOOST, 300, 1);
         } else {
             addSpeedModifier(player, 0.02 * multiplier);
         }
 
         if (transcendent) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.SPEED, 300, 2, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.SPEED, 300, 2);
             if (isNight) {
                 addDamageModifier(player, 2.0 * multiplier);
             }
@@ -214,23 +215,23 @@ if (player.getHealth() < player.getMaxHealth() * 0.3f) {
     }
 
     private void applyOrderApex(ServerPlayerEntity player, float multiplier, boolean transcendent, ServerWorld world) {
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.HERO_OF_THE_VILLAGE, 300, 0, true, false));
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 300, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.HERO_OF_THE_VILLAGE, 300, 0);
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.REGENERATION, 300, 0);
         addArmorModifier(player, 3.0 * multiplier);
 
         if (transcendent) {
             Box aura = player.getBoundingBox().expand(12.0);
-            List<ServerPlayerEntity> nearbyPlayers = world.getEntitiesByClass(
-                    ServerPlayerEntity.class, aura, p -> p != player);
+            SoulboundMod.getPlayerIndex().queryBox(world, aura, nearbyPlayers);
             for (ServerPlayerEntity ally : nearbyPlayers) {
-                ally.addStatusEffect(new StatusEffectInstance(StatusEffects.RESISTANCE, 120, 0, true, false));
-                ally.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, 120, 0, true, false));
+                if (ally == player) continue;
+                SoulboundMod.getEffectArbiter().request(ally, StatusEffects.RESISTANCE, 120, 0);
+                SoulboundMod.getEffectArbiter().request(ally, StatusEffects.REGENERATION, 120, 0);
             }
         }
     }
 
     private void applySavageryApex(ServerPlayerEntity player, float multiplier, boolean transcendent) {
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, 300, 1, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.STRENGTH, 300, 1);
         addSpeedModifier(player, 0.03 * multiplier);
         addDamageModifier(player, 1.0 * multiplier);
 
@@ -238,45 +239,26 @@ if (player.getHealth() < player.getMaxHealth() * 0.3f) {
             float healthRatio = player.getHealth() / player.getMaxHealth();
             if (healthRatio < 0.5f) {
                 int amplifier = healthRatio < 0.25f ? 3 : 2;
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, 300, amplifier, true, false));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.HASTE, 300, 2, true, false));
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.STRENGTH, 300, amplifier);
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.HASTE, 300, 2);
             }
         }
     }
 
     private void addSpeedModifier(ServerPlayerEntity player, double amount) {
-        EntityAttributeInstance attr = player.getAttributeInstance(EntityAttributes.GENERIC_MOVEMENT_SPEED);
-        if (attr == null) return;
-        attr.removeModifier(APEX_SPEED_UUID);
-        attr.addTemporaryModifier(new EntityAttributeModifier(
-                APEX_SPEED_UUID, APEX_SPEED_NAME, amount, EntityAttributeModifier.Operation.ADDITION));
+        tracker(player).set(ModifierSlot.APEX_SPEED, amount);
     }
 
     private void addArmorModifier(ServerPlayerEntity player, double amount) {
-        EntityAttributeInstance attr = player.getAttributeInstance(EntityAttributes.GENERIC_ARMOR);
-        if (attr == null) return;
-        attr.removeModifier(APEX_ARMOR_UUID);
-        attr.addTemporaryModifier(new EntityAttributeModifier(
-                APEX_ARMOR_UUID, APEX_ARMOR_NAME, amount, EntityAttributeModifier.Operation.ADDITION));
+        tracker(player).set(ModifierSlot.APEX_ARMOR, amount);
     }
 
     private void addDamageModifier(ServerPlayerEntity player, double amount) {
-        EntityAttributeInstance attr = player.getAttributeInstance(EntityAttributes.GENERIC_ATTACK_DAMAGE);
-        if (attr == null) return;
-        attr.removeModifier(APEX_DAMAGE_UUID);
-        attr.addTemporaryModifier(new EntityAttributeModifier(
-                APEX_DAMAGE_UUID, APEX_DAMAGE_NAME, amount, EntityAttributeModifier.Operation.ADDITION));
+        tracker(player).set(ModifierSlot.APEX_DAMAGE, amount);
     }
 
-    private void removeApexEffects(ServerPlayerEntity player) {
-        EntityAttributeInstance speedAttr = player.getAttributeInstance(EntityAttributes.GENERIC_MOVEMENT_SPEED);
-        if (speedAttr != null) speedAttr.removeModifier(APEX_SPEED_UUID);
-
-        EntityAttributeInstance armorAttr = player.getAttributeInstance(EntityAttributes.GENERIC_ARMOR);
-        if (armorAttr != null) armorAttr.removeModifier(APEX_ARMOR_UUID);
-
-        EntityAttributeInstance damageAttr = player.getAttributeInstance(EntityAttributes.GENERIC_ATTACK_DAMAGE);
-        if (damageAttr != null) damageAttr.removeModifier(APEX_DAMAGE_UUID);
+    private static ModifierTracker tracker(ServerPlayerEntity player) {
+        return ((ModifierTrackerAccessor) player).soulbound$getModifierTracker();
     }
 
     public void onPlayerDisconnect(UUID uuid) {
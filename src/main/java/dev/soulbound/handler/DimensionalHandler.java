@@ -1,13 +1,14 @@
 package dev.soulbound.handler;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
-import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import dev.soulbound.effect.StatusEffectArbiter;
+import dev.soulbound.scheduler.PlayerPassContext;
+import dev.soulbound.scheduler.SoulTickScheduler;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.registry.RegistryKey;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
@@ -19,29 +20,24 @@ import java.util.UUID;
 
 public class DimensionalHandler {
     private static final int CHECK_INTERVAL = 200;
+    private static final int NIGHT_VISION_FLOOR = StatusEffectArbiter.NIGHT_VISION_FLICKER_TICKS + CHECK_INTERVAL;
 
     private final ConfigManager configManager;
-    private int tickCounter;
     private final Map<UUID, String> lastDimension = new HashMap<>();
 
     public DimensionalHandler(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled() || !configManager.isDimensionalBonusEnabled()) return;
-
-        tickCounter++;
-        if (tickCounter < CHECK_INTERVAL) return;
-        tickCounter = 0;
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            processDimensionalEffects(player);
-        }
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerPlayerStage("dimensional", () -> CHECK_INTERVAL,
+                () -> configManager.isEnabled() && configManager.isDimensionalBonusEnabled(),
+                this::processDimensionalEffects);
     }
 
-    private void processDimensionalEffects(ServerPlayerEntity player) {
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+    private void processDimensionalEffects(PlayerPassContext context) {
+        ServerPlayerEntity player = context.player();
+        AlignmentData data = context.data();
         AlignmentType dominant = data.getDominant();
         if (dominant == null) return;
 
@@ -59,7 +55,7 @@ AlignmentType.DimensionAffinity affinity = dominant.getDimensionAffinity();
         boolean isHome = isHomeDimension(affinity, currentDimension);
         boolean isHostile = isHostileDimension(affinity, currentDimension);
 
-        float strength = Math.min(data.getDominantValue() / configManager.getApexThreshold(), 1.0f);
+        float strength = context.snapshot().apexProgress();
 
         if (isHome && strength > 0.3f) {
             applyHomeBonus(player, dominant, strength);
@@ -95,17 +91,17 @@ AlignmentType.DimensionAffinity affinity = dominant.getDimensionAffinity();
 
         switch (dominant) {
             case DECAY, VOLATILITY -> {
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, duration, 0, true, false));
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.FIRE_RESISTANCE, duration, 0);
             }
             case VOID -> {
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOW_FALLING, duration, 0, true, false));
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.SLOW_FALLING, duration, 0);
                 if (strength > 0.5f) {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.NIGHT_VISION, duration, 0, true, false));
+                    SoulboundMod.getEffectArbiter().request(player, StatusEffects.NIGHT_VISION, duration, 0, NIGHT_VISION_FLOOR);
                 }
             }
             case ORDER, INSTINCT, PRECISION, SAVAGERY -> {
                 if (strength > 0.5f) {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, duration, 0, true, false));
+                    SoulboundMod.getEffectArbiter().request(player, StatusEffects.REGENERATION, duration, 0);
                 }
             }
         }
@@ -113,7 +109,7 @@ AlignmentType.DimensionAffinity affinity = dominant.getDimensionAffinity();
 
     private void applyHostilePenalty(ServerPlayerEntity player, AlignmentType dominant, float strength) {
         if (strength > 0.5f && player.getRandom().nextFloat() < 0.1f) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.WEAKNESS, 100, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.WEAKNESS, 100, 0);
         }
     }
 
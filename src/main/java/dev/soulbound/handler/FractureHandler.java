@@ -1,13 +1,15 @@
 package dev.soulbound.handler;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.scheduler.PlayerPassContext;
+import dev.soulbound.scheduler.SoulTickScheduler;
 import net.minecraft.entity.EntityType;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffects;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.stat.Stats;
@@ -19,7 +21,6 @@ import java.util.*;
 
 public class FractureHandler {
     private final ConfigManager configManager;
-    private int tickCounter;
     private final Map<UUID, Integer> fractureEventEscalation = new HashMap<>();
     private final Map<UUID, Long> lastRealityTear = new HashMap<>();
 
@@ -38,20 +39,14 @@ public class FractureHandler {
         this.configManager = configManager;
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled()) return;
-
-        tickCounter++;
-        if (tickCounter < configManager.getFractureEffectInterval()) return;
-        tickCounter = 0;
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            processFracture(player);
-        }
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerPlayerStage("fracture", configManager::getFractureEffectInterval,
+                configManager::isEnabled, this::processFracture);
     }
 
-    private void processFracture(ServerPlayerEntity player) {
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+    private void processFracture(PlayerPassContext context) {
+        ServerPlayerEntity player = context.player();
+        AlignmentData data = context.data();
         data.recalculateFracture(configManager.getFractureThreshold());
 
         if (!data.isFractured()) {
@@ -116,7 +111,7 @@ float nightMultiplier = isNight ? 1.5f : 1.0f;
 increasePhantomSensitivity(player);
 
 if (isNight && player.getRandom().nextFloat() < 0.3f) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.DARKNESS, 60, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.DARKNESS, 60, 0);
         }
     }
 
@@ -139,20 +134,20 @@ if (configManager.isFractureRealityTearEnabled()) {
         }
 
 if (player.getRandom().nextFloat() < 0.1f * severity) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.WITHER, 60, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.WITHER, 60, 0);
         }
     }
 
     private void applyCriticalFractureEffects(ServerPlayerEntity player, AlignmentData data,
                                                float fractureLevel, float severity) {
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.DARKNESS, 300, 0, true, false));
-        player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOWNESS, 200, 0, true, false));
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.DARKNESS, 300, 0);
+        SoulboundMod.getEffectArbiter().request(player, StatusEffects.SLOWNESS, 200, 0);
 
 if (player.getRandom().nextFloat() < 0.25f * severity) {
-            player.addStatusEffect(new StatusEffectInstance(StatusEffects.WITHER, 100, 0, true, false));
+            SoulboundMod.getEffectArbiter().request(player, StatusEffects.WITHER, 100, 0);
         }
 
-player.addStatusEffect(new StatusEffectInstance(StatusEffects.MINING_FATIGUE, 200, 1, true, false));
+SoulboundMod.getEffectArbiter().request(player, StatusEffects.MINING_FATIGUE, 200, 1);
 
 if (configManager.isSoulWhispersEnabled() && player.getRandom().nextFloat() < 0.05f) {
             player.sendMessage(
@@ -223,25 +218,24 @@ EntityType<?> mobType = getRandomFractureMob(player.getRandom(), escalation);
 
     private void applyRandomMinorDebuff(ServerPlayerEntity player, int duration) {
         int roll = player.getRandom().nextInt(3);
-        StatusEffectInstance effect = switch (roll) {
-            case 0 -> new StatusEffectInstance(StatusEffects.HUNGER, duration, 0, true, false);
-            case 1 -> new StatusEffectInstance(StatusEffects.SLOWNESS, duration, 0, true, false);
-            default -> new StatusEffectInstance(StatusEffects.MINING_FATIGUE, duration, 0, true, false);
+        StatusEffect effect = switch (roll) {
+            case 0 -> StatusEffects.HUNGER;
+            case 1 -> StatusEffects.SLOWNESS;
+            default -> StatusEffects.MINING_FATIGUE;
         };
-        player.addStatusEffect(effect);
+        SoulboundMod.getEffectArbiter().request(player, effect, duration, 0);
     }
 
     private void applyRandomDebuff(ServerPlayerEntity player, int duration) {
         int roll = player.getRandom().nextInt(6);
-        StatusEffectInstance effect = switch (roll) {
-            case 0 -> new StatusEffectInstance(StatusEffects.WEAKNESS, duration, 0, true, false);
-            case 1 -> new StatusEffectInstance(StatusEffects.MINING_FATIGUE, duration, 0, true, false);
-            case 2 -> new StatusEffectInstance(StatusEffects.SLOWNESS, duration, 0, true, false);
-            case 3 -> new StatusEffectInstance(StatusEffects.HUNGER, duration, 1, true, false);
-            case 4 -> new StatusEffectInstance(StatusEffects.DARKNESS, duration, 0, true, false);
-            default -> new StatusEffectInstance(StatusEffects.NAUSEA, Math.min(duration, 100), 0, true, false);
-        };
-        player.addStatusEffect(effect);
+        switch (roll) {
+            case 0 -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.WEAKNESS, duration, 0);
+            case 1 -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.MINING_FATIGUE, duration, 0);
+            case 2 -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.SLOWNESS, duration, 0);
+            case 3 -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.HUNGER, duration, 1);
+            case 4 -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.DARKNESS, duration, 0);
+            default -> SoulboundMod.getEffectArbiter().request(player, StatusEffects.NAUSEA, Math.min(duration, 100), 0);
+        }
     }
 
     private void increasePhantomSensitivity(ServerPlayerEntity player) {
@@ -3,10 +3,13 @@ package dev.soulbound.handler;
 import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
+import dev.soulbound.alignment.AlignmentSnapshot;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.scheduler.PlayerPassContext;
+import dev.soulbound.scheduler.SoulTickScheduler;
 import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
@@ -21,14 +24,11 @@ import java.util.Map;
 import java.util.UUID;
 
 public class PlayerEventHandler {
-    private static final int PASSIVE_EFFECT_INTERVAL = 100;
     private static final int VOID_TELEPORT_COOLDOWN = 600;
     private static final int WHISPER_CHECK_INTERVAL = 2400;
 
     private final Map<UUID, Long> voidTeleportCooldowns = new HashMap<>();
     private final Map<UUID, Long> lastWhisper = new HashMap<>();
-    private int passiveTickCounter;
-    private int whisperTickCounter;
 
     private static final String[] ALIGNMENT_WHISPERS_DECAY = {
             "The soil hungers beneath your feet...",
@@ -66,29 +66,24 @@ public class PlayerEventHandler {
             "Strength is the only truth."
     };
 
-    public void register() {
+    public void register(SoulTickScheduler scheduler) {
         ServerLivingEntityEvents.ALLOW_DAMAGE.register(this::onEntityDamaged);
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            ConfigManager config = SoulboundMod.getConfigManager();
-
-            passiveTickCounter++;
-            if (passiveTickCounter >= PASSIVE_EFFECT_INTERVAL) {
-                passiveTickCounter = 0;
-                for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                    AlignmentEffectApplicator.applyPassiveEffects(player, config);
-                }
-            }
-
-            whisperTickCounter++;
-            if (whisperTickCounter >= WHISPER_CHECK_INTERVAL && config.isSoulWhispersEnabled()) {
-                whisperTickCounter = 0;
-                for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                    sendRandomWhisper(player);
-                }
-            }
+        ConfigManager config = SoulboundMod.getConfigManager();
+        scheduler.registerPlayerStage("passive_effects", () -> AlignmentEffectApplicator.PASSIVE_INTERVAL, config::isEnabled,
+                context -> AlignmentEffectApplicator.applyPassiveEffects(context.player(), context.snapshot(), config));
+        scheduler.registerPlayerStage("whispers", () -> WHISPER_CHECK_INTERVAL, config::isSoulWhispersEnabled,
+                this::sendRandomWhisper);
+
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+            SoulboundMod.getAlignmentManager().replayJournal(handler.getPlayer());
+            SoulboundMod.getAlignmentManager().applyPendingDecay(handler.getPlayer());
+            AlignmentEffectApplicator.refresh(handler.getPlayer(), config);
         });
 
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) ->
+                AlignmentEffectApplicator.refresh(newPlayer, config));
+
         ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
             UUID uuid = handler.getPlayer().getUuid();
             voidTeleportCooldowns.remove(uuid);
@@ -97,6 +92,8 @@ public class PlayerEventHandler {
             SoulboundMod.getApexStateHandler().onPlayerDisconnect(uuid);
             SoulboundMod.getFractureHandler().onPlayerDisconnect(uuid);
             SoulboundMod.getDimensionalHandler().onPlayerDisconnect(uuid);
+            SoulboundMod.getEffectArbiter().onPlayerDisconnect(uuid);
+            SoulboundMod.getResonanceHandler().onPlayerDisconnect(uuid);
         });
     }
 
@@ -168,7 +165,8 @@ if (attackerAlignment.getSynergies().contains(victimAlignment)) {
                                      }
 
     private boolean handleVoidDodge(ServerPlayerEntity player, AlignmentData data, float amount) {
-        float strength = Math.min(data.getDominantValue() / SoulboundMod.getConfigManager().getApexThreshold(), 1.0f);
+        AlignmentSnapshot snapshot = data.getSnapshot(SoulboundMod.getConfigManager().getApexThreshold());
+        float strength = snapshot.apexProgress();
         if (strength < 0.35f) return true;
 
         UUID uuid = player.getUuid();
@@ -179,8 +177,7 @@ if (attackerAlignment.getSynergies().contains(victimAlignment)) {
         }
 
         float dodgeChance = 0.15f * strength * SoulboundMod.getConfigManager().getEffectStrengthMultiplier();
-        AlignmentType.Tier tier = data.getDominantTier();
-        dodgeChance += tier.ordinal() * 0.02f;
+        dodgeChance += snapshot.tier().ordinal() * 0.02f;
 
         if (player.getRandom().nextFloat() > dodgeChance) return true;
 
@@ -209,15 +206,16 @@ if (attackerAlignment.getSynergies().contains(victimAlignment)) {
         return true;
     }
 
-    private void sendRandomWhisper(ServerPlayerEntity player) {
+    private void sendRandomWhisper(PlayerPassContext context) {
         ConfigManager config = SoulboundMod.getConfigManager();
         if (!config.isSoulWhispersEnabled()) return;
 
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
-        AlignmentType dominant = data.getDominant();
+        ServerPlayerEntity player = context.player();
+        AlignmentSnapshot snapshot = context.snapshot();
+        AlignmentType dominant = snapshot.dominant();
         if (dominant == null) return;
 
-        float strength = Math.min(data.getDominantValue() / config.getApexThreshold(), 1.0f);
+        float strength = snapshot.apexProgress();
         if (strength < 0.3f) return;
 
 if (player.getRandom().nextFloat() > 0.3f * strength) return;
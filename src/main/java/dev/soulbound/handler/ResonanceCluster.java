@@ -0,0 +1,14 @@
+package dev.soulbound.handler;
+
+import dev.soulbound.alignment.AlignmentType;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.World;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ResonanceCluster(RegistryKey<World> world, List<UUID> members, int[] histogram) {
+    public int getCount(AlignmentType type) {
+        return histogram[type.ordinal()];
+    }
+}
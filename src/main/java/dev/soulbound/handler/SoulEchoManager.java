@@ -1,12 +1,18 @@
 package dev.soulbound.handler;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
-import net.minecraft.entity.effect.StatusEffectInstance;
+import dev.soulbound.echo.EchoIndex;
+import dev.soulbound.echo.EchoPersistentState;
+import dev.soulbound.echo.SoulEcho;
+import dev.soulbound.scheduler.SoulTickScheduler;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.particle.ParticleTypes;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -14,13 +20,19 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
 
 import java.util.*;
 
 public class SoulEchoManager {
+    private static final int ECHO_INTERVAL = 40;
+    private static final double PARTICLE_VIEW_DISTANCE = 32.0;
+
     private final ConfigManager configManager;
-    private final List<SoulEcho> activeEchoes = Collections.synchronizedList(new ArrayList<>());
-    private int tickCounter;
+    private final Map<RegistryKey<World>, EchoPersistentState> states = new HashMap<>();
+    private final List<ServerPlayerEntity> nearbyPlayers = new ArrayList<>();
+    private final List<SoulEcho> nearbyEchoes = new ArrayList<>();
+    private final Set<SoulEcho> observedEchoes = new ReferenceOpenHashSet<>();
 
     public SoulEchoManager(ConfigManager configManager) {
         this.configManager = configManager;
@@ -33,23 +45,37 @@ public class SoulEchoManager {
         AlignmentType dominant = data.getDominant();
         if (dominant == null) return;
 
-        float strength = Math.min(data.getDominantValue() / configManager.getApexThreshold(), 1.0f);
+        float strength = data.getSnapshot(configManager.getApexThreshold()).apexProgress();
         if (strength < 0.2f) return;
 
-        long expiry = player.getServerWorld().getTime() + configManager.getSoulEchoDurationTicks();
+        ServerWorld world = player.getServerWorld();
+        long now = world.getTime();
+        long expiry = now + configManager.getSoulEchoDurationTicks();
         float radius = configManager.getSoulEchoRadius();
 
+        EchoPersistentState state = getState(world);
+        EchoIndex index = state.getIndex();
+        state.markDirty();
+
+        SoulEcho merged = mergeEcho(index, player.getPos(), dominant, strength, expiry, now);
+        if (merged != null) {
+            data.setSoulEchoActive(true);
+            data.setSoulEchoExpiry(merged.expiry());
+            return;
+        }
+
         SoulEcho echo = new SoulEcho(
-                player.getServerWorld().getRegistryKey().getValue().toString(),
+                world.getRegistryKey(),
                 player.getPos(),
                 dominant,
-                strength,
+                Math.min(strength, configManager.getSoulEchoMaxStrength()),
                 expiry,
                 radius,
                 player.getUuid()
         );
 
-        activeEchoes.add(echo);
+        enforceChunkCap(index, echo.chunkKey());
+        index.add(echo, now);
 
 data.setSoulEchoActive(true);
         data.setSoulEchoExpiry(expiry);
@@ -59,9 +85,9 @@ data.setSoulEchoActive(true);
                     player.getX() - 32, player.getY() - 16, player.getZ() - 32,
                     player.getX() + 32, player.getY() + 16, player.getZ() + 32
             );
-            List<ServerPlayerEntity> nearbyPlayers = player.getServerWorld().getEntitiesByClass(
-                    ServerPlayerEntity.class, notifyBox, p -> p != player);
+            SoulboundMod.getPlayerIndex().queryBox(player.getServerWorld(), notifyBox, nearbyPlayers);
             for (ServerPlayerEntity nearby : nearbyPlayers) {
+                if (nearby == player) continue;
                 nearby.sendMessage(
                         Text.literal("◈ A soul echo resonates nearby... (" + dominant.getDisplayName() + ")")
                                 .formatted(Formatting.DARK_PURPLE, Formatting.ITALIC),
@@ -71,88 +97,137 @@ data.setSoulEchoActive(true);
         }
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled() || !configManager.isSoulEchoEnabled()) return;
+    private SoulEcho mergeEcho(EchoIndex index, Vec3d position, AlignmentType type, float strength,
+                               long expiry, long now) {
+        double mergeRadius = configManager.getSoulEchoMergeRadius();
+        if (mergeRadius <= 0) return null;
 
-        tickCounter++;
-        if (tickCounter < 40) return;
-        tickCounter = 0;
+        SoulEcho target = null;
+        double closest = mergeRadius * mergeRadius;
+        index.queryNear(position.x, position.z, mergeRadius, nearbyEchoes);
+        for (SoulEcho echo : nearbyEchoes) {
+            if (echo.alignmentType() != type) continue;
+            double distance = echo.position().squaredDistanceTo(position);
+            if (distance <= closest) {
+                closest = distance;
+                target = echo;
+            }
+        }
+        if (target == null) return null;
 
-        Iterator<SoulEcho> iterator = activeEchoes.iterator();
-        while (iterator.hasNext()) {
-            SoulEcho echo = iterator.next();
+        SoulEcho merged = new SoulEcho(
+                target.world(),
+                target.position(),
+                type,
+                Math.min(target.strength() + strength, configManager.getSoulEchoMaxStrength()),
+                Math.max(target.expiry(), expiry),
+                target.radius(),
+                target.ownerUuid()
+        );
+        index.remove(target);
+        index.add(merged, now);
+        return merged;
+    }
 
-ServerWorld world = null;
-            for (ServerWorld w : server.getWorlds()) {
-                if (w.getRegistryKey().getValue().toString().equals(echo.worldId)) {
-                    world = w;
-                    break;
+    private void enforceChunkCap(EchoIndex index, long chunkKey) {
+        int cap = Math.max(1, configManager.getMaxEchoesPerChunk());
+        List<SoulEcho> echoes = index.getEchoesInChunk(chunkKey);
+        while (echoes.size() >= cap) {
+            SoulEcho oldest = echoes.get(0);
+            for (SoulEcho echo : echoes) {
+                if (echo.expiry() < oldest.expiry()) {
+                    oldest = echo;
                 }
             }
+            index.remove(oldest);
+            echoes = index.getEchoesInChunk(chunkKey);
+        }
+    }
 
-            if (world == null) {
-                iterator.remove();
-                continue;
-            }
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerServerTask("echoes", () -> ECHO_INTERVAL,
+                () -> configManager.isEnabled() && configManager.isSoulEchoEnabled(), this::tick);
+    }
 
-if (world.getTime() >= echo.expiry) {
-                iterator.remove();
-                continue;
-}
+    private void tick(MinecraftServer server) {
+        for (ServerWorld world : server.getWorlds()) {
+            EchoPersistentState state = getState(world);
+            EchoIndex index = state.getIndex();
 
-applyEchoEffects(world, echo);
+            if (index.expire(world.getTime()) > 0) {
+                state.markDirty();
+            }
+            if (index.isEmpty()) continue;
 
-if (configManager.isParticlesEnabled()) {
-                spawnEchoParticles(world, echo);
-}
+            processWorld(world, index);
         }
     }
 
-    private void applyEchoEffects(ServerWorld world, SoulEcho echo) {
-        Box echoBox = new Box(
-                echo.position.x - echo.radius, echo.position.y - echo.radius, echo.position.z - echo.radius,
-                echo.position.x + echo.radius, echo.position.y + echo.radius, echo.position.z + echo.radius
-        );
-
-        List<ServerPlayerEntity> nearbyPlayers = world.getEntitiesByClass(
-                ServerPlayerEntity.class, echoBox, ServerPlayerEntity::isAlive);
+    private EchoPersistentState getState(ServerWorld world) {
+        EchoPersistentState state = states.get(world.getRegistryKey());
+        if (state == null) {
+            state = EchoPersistentState.load(world, ECHO_INTERVAL);
+            states.put(world.getRegistryKey(), state);
+        }
+        return state;
+    }
 
-        for (ServerPlayerEntity player : nearbyPlayers) {
-            float distance = (float) player.getPos().distanceTo(echo.position);
-            float falloff = 1.0f - (distance / echo.radius);
-            if (falloff <= 0) continue;
+    private void processWorld(ServerWorld world, EchoIndex index) {
+        boolean particles = configManager.isParticlesEnabled();
+        observedEchoes.clear();
 
-            int duration = (int) (100 * echo.strength * falloff);
-            if (duration < 20) continue;
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (!player.isAlive()) continue;
 
-            switch (echo.alignmentType) {
-                case DECAY -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.RESISTANCE, duration, 0, true, false));
-                }
-                case PRECISION -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.SPEED, duration, 0, true, false));
-                }
-                case VOLATILITY -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.FIRE_RESISTANCE, duration, 0, true, false));
-                }
-                case VOID -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOW_FALLING, duration, 0, true, false));
-                }
-                case INSTINCT -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.NIGHT_VISION, duration, 0, true, false));
-                }
-                case ORDER -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, duration, 0, true, false));
-                }
-                case SAVAGERY -> {
-                    player.addStatusEffect(new StatusEffectInstance(StatusEffects.STRENGTH, duration, 0, true, false));
+            index.queryNear(player.getX(), player.getZ(), particles ? PARTICLE_VIEW_DISTANCE : 0, nearbyEchoes);
+            for (SoulEcho echo : nearbyEchoes) {
+                float distance = (float) player.getPos().distanceTo(echo.position());
+                if (particles && distance <= echo.radius() + PARTICLE_VIEW_DISTANCE) {
+                    observedEchoes.add(echo);
                 }
+                applyEchoEffect(player, echo, distance);
+            }
+        }
+
+        for (SoulEcho echo : observedEchoes) {
+            spawnEchoParticles(world, echo);
+        }
+    }
+
+    private void applyEchoEffect(ServerPlayerEntity player, SoulEcho echo, float distance) {
+        float falloff = 1.0f - (distance / echo.radius());
+        if (falloff <= 0) return;
+
+        int duration = (int) (100 * echo.strength() * falloff);
+        if (duration < 20) return;
+
+        switch (echo.alignmentType()) {
+            case DECAY -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.RESISTANCE, duration, 0);
+            }
+            case PRECISION -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.SPEED, duration, 0);
+            }
+            case VOLATILITY -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.FIRE_RESISTANCE, duration, 0);
+            }
+            case VOID -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.SLOW_FALLING, duration, 0);
+            }
+            case INSTINCT -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.NIGHT_VISION, duration, 0);
+            }
+            case ORDER -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.REGENERATION, duration, 0);
+            }
+            case SAVAGERY -> {
+                SoulboundMod.getEffectArbiter().request(player, StatusEffects.STRENGTH, duration, 0);
             }
         }
     }
 
     private void spawnEchoParticles(ServerWorld world, SoulEcho echo) {
-        var particleType = switch (echo.alignmentType) {
+        var particleType = switch (echo.alignmentType()) {
             case DECAY -> ParticleTypes.SOUL;
             case PRECISION -> ParticleTypes.CRIT;
             case VOLATILITY -> ParticleTypes.FLAME;
@@ -163,33 +238,27 @@ if (configManager.isParticlesEnabled()) {
         };
 
         for (int i = 0; i < 3; i++) {
-            double offsetX = (world.random.nextDouble() - 0.5) * echo.radius * 2;
+            double offsetX = (world.random.nextDouble() - 0.5) * echo.radius() * 2;
             double offsetY = (world.random.nextDouble() - 0.5) * 2.0;
-            double offsetZ = (world.random.nextDouble() - 0.5) * echo.radius * 2;
+            double offsetZ = (world.random.nextDouble() - 0.5) * echo.radius() * 2;
 
             world.spawnParticles(particleType,
-                    echo.position.x + offsetX,
-                    echo.position.y + 1.0 + offsetY,
-                    echo.position.z + offsetZ,
+                    echo.position().x + offsetX,
+                    echo.position().y + 1.0 + offsetY,
+                    echo.position().z + offsetZ,
                     1, 0, 0.05, 0, 0.02);
         }
     }
 
     public int getActiveEchoCount() {
-        return activeEchoes.size();
+        int count = 0;
+        for (EchoPersistentState state : states.values()) {
+            count += state.getIndex().size();
+        }
+        return count;
     }
 
-    public List<SoulEcho> getActiveEchoes() {
-        return Collections.unmodifiableList(activeEchoes);
+    public void clear() {
+        states.clear();
     }
-
-    public record SoulEcho(
-            String worldId,
-            Vec3d position,
-            AlignmentType alignmentType,
-            float strength,
-            long expiry,
-            float radius,
-            UUID ownerUuid
-    ) {}
-}
\ No newline at end of file
+}
@@ -1,79 +1,117 @@
 package dev.soulbound.handler;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.scheduler.SoulTickScheduler;
+import dev.soulbound.spatial.PlayerClusterer;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Box;
 
-import java.util.List;
+import java.util.*;
 
 public class SoulResonanceHandler {
+    private static final AlignmentType[] TYPES = AlignmentType.values();
+
     private final ConfigManager configManager;
-    private int tickCounter;
+    private final PlayerClusterer clusterer = new PlayerClusterer();
+    private final List<ServerPlayerEntity> members = new ArrayList<>();
+    private final Map<UUID, ResonanceCluster> clusters = new HashMap<>();
+    private int[] histogram = new int[0];
 
     public SoulResonanceHandler(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
-    public void tick(MinecraftServer server) {
-        if (!configManager.isEnabled() || !configManager.isResonanceEnabled()) return;
-
-        tickCounter++;
-        if (tickCounter < configManager.getResonanceCheckInterval()) return;
-        tickCounter = 0;
+    public void register(SoulTickScheduler scheduler) {
+        scheduler.registerServerTask("resonance", configManager::getResonanceCheckInterval,
+                () -> configManager.isEnabled() && configManager.isResonanceEnabled(),
+                this::tick);
+    }
 
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            processResonance(player, server);
-        }
+    public ResonanceCluster getCluster(UUID uuid) {
+        return clusters.get(uuid);
     }
 
-    private void processResonance(ServerPlayerEntity player, MinecraftServer server) {
-        AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
-        AlignmentType dominant = data.getDominant();
+    public void onPlayerDisconnect(UUID uuid) {
+        clusters.remove(uuid);
+    }
 
-        if (dominant == null) {
-            data.setResonanceBonus(0);
-            return;
+    private void tick(MinecraftServer server) {
+        clusters.clear();
+        for (ServerWorld world : server.getWorlds()) {
+            processWorld(world);
         }
+    }
 
-        double radius = configManager.getResonanceRadius();
-        Box searchBox = player.getBoundingBox().expand(radius);
-
-        List<ServerPlayerEntity> nearbyPlayers = player.getServerWorld().getEntitiesByClass(
-                ServerPlayerEntity.class, searchBox,
-                other -> other != player && other.isAlive()
-        );
-
-        int resonantCount = 0;
-        int synergyCount = 0;
+    private void processWorld(ServerWorld world) {
+        long now = world.getTime();
+        members.clear();
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            SoulboundMod.getAlignmentManager().applyPendingDecay(player);
+            AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+            if (!player.isAlive() || data.getDominant() == null) {
+                updateBonus(player, data, 0, now);
+                continue;
+            }
+            members.add(player);
+        }
+        if (members.isEmpty()) return;
+
+        int clusterCount = clusterer.cluster(members, configManager.getResonanceRadius());
+        int width = TYPES.length;
+        if (histogram.length < clusterCount * width) {
+            histogram = new int[clusterCount * width];
+        } else {
+            Arrays.fill(histogram, 0, clusterCount * width, 0);
+        }
 
-        for (ServerPlayerEntity other : nearbyPlayers) {
-            AlignmentData otherData = ((AlignmentDataAccessor) other).soulbound$getAlignmentData();
-            AlignmentType otherDominant = otherData.getDominant();
+        for (int i = 0; i < members.size(); i++) {
+            AlignmentData data = ((AlignmentDataAccessor) members.get(i)).soulbound$getAlignmentData();
+            histogram[clusterer.getClusterId(i) * width + data.getDominant().ordinal()]++;
+        }
 
-            if (otherDominant == null) continue;
+        float perPlayer = configManager.getResonanceBonusPerPlayer();
+        ResonanceCluster[] views = new ResonanceCluster[clusterCount];
+        for (int i = 0; i < members.size(); i++) {
+            ServerPlayerEntity player = members.get(i);
+            AlignmentData data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+            AlignmentType dominant = data.getDominant();
+            int clusterId = clusterer.getClusterId(i);
+            int base = clusterId * width;
+
+            int resonantCount = histogram[base + dominant.ordinal()] - 1;
+            int synergyCount = 0;
+            for (AlignmentType synergy : dominant.getSynergies()) {
+                synergyCount += histogram[base + synergy.ordinal()];
+            }
 
-            if (otherDominant == dominant) {
-                resonantCount++;
-            } else if (dominant.getSynergies().contains(otherDominant)) {
-                synergyCount++;
+            float bonus = Math.min(resonantCount * perPlayer + synergyCount * perPlayer * 0.5f,
+                    configManager.getMaxResonanceBonus());
+            updateBonus(player, data, bonus, now);
+
+            if (clusterer.getClusterSize(clusterId) > 1) {
+                ResonanceCluster view = views[clusterId];
+                if (view == null) {
+                    view = new ResonanceCluster(world.getRegistryKey(), new ArrayList<>(),
+                            Arrays.copyOfRange(histogram, base, base + width));
+                    views[clusterId] = view;
+                }
+                view.members().add(player.getUuid());
+                clusters.put(player.getUuid(), view);
             }
         }
+    }
 
+    private void updateBonus(ServerPlayerEntity player, AlignmentData data, float bonus, long now) {
         float previousBonus = data.getResonanceBonus();
-        float bonus = Math.min(
-                resonantCount * configManager.getResonanceBonusPerPlayer()
-                        + synergyCount * configManager.getResonanceBonusPerPlayer() * 0.5f,
-                configManager.getMaxResonanceBonus()
-        );
-
         data.setResonanceBonus(bonus);
-        data.setLastResonanceCheck(player.getServerWorld().getTime());
+        data.setLastResonanceCheck(now);
 
 if (configManager.isSoulWhispersEnabled()) {
             if (previousBonus == 0 && bonus > 0) {
@@ -1,10 +1,14 @@
 package dev.soulbound.manager;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.alignment.AlignmentType;
 import dev.soulbound.config.ConfigManager;
+import dev.soulbound.handler.AlignmentEffectApplicator;
+import dev.soulbound.persistence.AlignmentJournal;
 import dev.soulbound.registry.AlignmentRegistry;
+import dev.soulbound.registry.EntityProfile;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -12,41 +16,81 @@ import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
-import java.util.Map;
-
 public class AlignmentManager {
     private final ConfigManager configManager;
+    private AlignmentJournal journal;
 
     public AlignmentManager(ConfigManager configManager) {
         this.configManager = configManager;
     }
 
+    public void setJournal(AlignmentJournal journal) {
+        this.journal = journal;
+    }
+
+    public void grantAlignment(ServerPlayerEntity player, AlignmentType type, float amount) {
+        grantAlignment(player, type, amount, false);
+    }
+
+    public void grantAlignment(ServerPlayerEntity player, AlignmentType type, float amount, boolean secondaryGrant) {
+        AlignmentData data = getAlignmentData(player);
+        data.addAlignment(type, amount, secondaryGrant);
+        if (journal != null) {
+            data.setJournalSeq(journal.append(player.getUuid(), type, amount, player.getServerWorld().getTime()));
+        }
+    }
+
+    public void replayJournal(ServerPlayerEntity player) {
+        if (journal == null) return;
+
+        AlignmentData data = getAlignmentData(player);
+        int replayed = 0;
+        for (AlignmentJournal.Entry entry : journal.takePending(player.getUuid())) {
+            AlignmentType type = AlignmentType.byOrdinal(entry.typeOrdinal());
+            if (type == null || entry.seq() <= data.getJournalSeq()) continue;
+
+            data.addAlignment(type, entry.amount());
+            data.setLastUpdateTimestamp(Math.max(data.getLastUpdateTimestamp(), entry.tick()));
+            data.setJournalSeq(entry.seq());
+            replayed++;
+        }
+
+        if (replayed > 0) {
+            data.recalculateFracture(configManager.getFractureThreshold());
+            SoulboundMod.LOGGER.info("Replayed {} journaled alignment changes for {}",
+                    replayed, player.getName().getString());
+        }
+    }
+
     public AlignmentData getAlignmentData(ServerPlayerEntity player) {
         return ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
     }
 
     public void onMobKilled(LivingEntity entity, DamageSource source) {
         if (!configManager.isEnabled()) return;
-        if (source.getAttacker() == null) return;
+
+        EntityProfile profile = AlignmentRegistry.getProfile(entity);
+        if (!profile.isAligned()) return;
         if (!(source.getAttacker() instanceof ServerPlayerEntity player)) return;
 
-        AlignmentType alignmentType = AlignmentRegistry.getAlignmentForEntity(entity);
-        if (alignmentType == null) return;
+        AlignmentType alignmentType = profile.primary();
+
+        applyPendingDecay(player);
 
         AlignmentData data = getAlignmentData(player);
         AlignmentType previousDominant = data.getDominant();
         AlignmentType.Tier previousTier = data.getDominantTier();
 
-        float gainAmount = calculateGain(entity, alignmentType, data, player);
+        float gainAmount = calculateGain(profile, alignmentType, data, player);
         if (gainAmount <= 0) return;
 
-        data.addAlignment(alignmentType, gainAmount);
+        grantAlignment(player, alignmentType, gainAmount);
 
         if (configManager.isSecondaryAlignmentEnabled()) {
-            AlignmentType secondaryType = AlignmentRegistry.getSecondaryAlignment(entity);
+            AlignmentType secondaryType = profile.secondary();
             if (secondaryType != null) {
                 float secondaryGain = gainAmount * configManager.getSecondaryAlignmentRatio();
-                data.addAlignment(secondaryType, secondaryGain);
+                grantAlignment(player, secondaryType, secondaryGain, true);
             }
         }
 
@@ -56,18 +100,22 @@ public class AlignmentManager {
         data.setLastUpdateTimestamp(player.getServerWorld().getTime());
         data.recalculateFracture(configManager.getFractureThreshold());
 
+        if (data.getDominant() != previousDominant || data.getDominantTier() != previousTier) {
+            AlignmentEffectApplicator.refresh(player, configManager);
+        }
+
         sendAlignmentFeedback(player, data, alignmentType, gainAmount, previousDominant, previousTier);
     }
 
-    private float calculateGain(LivingEntity entity, AlignmentType type, AlignmentData data, ServerPlayerEntity player) {
-        float baseGain = AlignmentRegistry.getWeightForEntity(entity);
+    private float calculateGain(EntityProfile profile, AlignmentType type, AlignmentData data, ServerPlayerEntity player) {
+        float baseGain = profile.weight();
         float gain = baseGain * configManager.getAlignmentGainRate();
 
-if (AlignmentRegistry.isBoss(entity)) {
+if (profile.boss()) {
             gain *= configManager.getBossAlignmentMultiplier();
         }
 
-if (AlignmentRegistry.isElite(entity)) {
+if (profile.elite()) {
             gain *= configManager.getEliteAlignmentMultiplier();
         }
 
@@ -91,21 +139,13 @@ if (data.getDominant() != null && data.getDominant().getSynergies().contains(typ
             gain *= 1.15f;
         }
 
-String typeKey = type.getId();
-        long currentTime = player.getServerWorld().getTime();
-
-        Map<String, Long> timestamps = data.getKillTimestamps();
-        Map<String, Integer> counts = data.getKillCounts();
+long currentTime = player.getServerWorld().getTime();
 
-        Long lastKillTime = timestamps.get(typeKey);
-        if (lastKillTime != null && (currentTime - lastKillTime) < configManager.getGrinderCooldownTicks()) {
+        if (data.isKillOnCooldown(type, currentTime, configManager.getGrinderCooldownTicks())) {
             gain *= configManager.getGrinderPenaltyFactor();
         }
 
-        int windowKills = counts.getOrDefault(typeKey, 0);
-        if (lastKillTime != null && (currentTime - lastKillTime) > configManager.getKillWindowTicks()) {
-            windowKills = 0;
-        }
+        int windowKills = data.getWindowKillCount(type, currentTime, configManager.getKillWindowTicks());
 
         if (windowKills >= configManager.getMaxKillsPerTypePerWindow()) {
             gain *= configManager.getGrinderPenaltyFactor();
@@ -115,8 +155,7 @@ if (data.getSpatialKillCount() >= configManager.getSpatialKillThreshold()) {
             gain *= configManager.getSpatialPenaltyFactor();
         }
 
-        timestamps.put(typeKey, currentTime);
-        counts.put(typeKey, windowKills + 1);
+        data.recordKill(type, currentTime, windowKills);
 
         return gain;
     }
@@ -158,16 +197,10 @@ if (data.getMomentumStreak() > 0 && data.getMomentumStreak() % 5 == 0) {
         }
     }
 
-    public void decayAlignments(ServerPlayerEntity player) {
+    public void applyPendingDecay(ServerPlayerEntity player) {
         if (!configManager.isEnabled()) return;
 
-        AlignmentData data = getAlignmentData(player);
-        long currentTime = player.getServerWorld().getTime();
-        long lastUpdate = data.getLastUpdateTimestamp();
-
-        if (lastUpdate > 0 && (currentTime - lastUpdate) >= configManager.getDecayIntervalTicks()) {
-            data.decayAll(configManager.getAlignmentDecayRate());
-            data.setLastUpdateTimestamp(currentTime);
-        }
+        getAlignmentData(player).applyPendingDecay(player.getServerWorld().getTime(),
+                configManager.getDecayIntervalTicks(), configManager.getAlignmentDecayRate());
     }
 }
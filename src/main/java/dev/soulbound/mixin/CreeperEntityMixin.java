@@ -29,11 +29,9 @@ public abstract class CreeperEntityMixin {
         MobPerceptionHandler handler = SoulboundMod.getMobPerceptionHandler();
         if (handler == null) return;
 
-        if (handler.shouldCreeperDelay(player)) {
-            int extension = handler.getCreeperFuseExtension(player);
-            if (currentFuseTime > 0 && currentFuseTime < extension) {
-                currentFuseTime = Math.max(0, currentFuseTime - 1);
-            }
+        int extension = handler.getProfile(player).getCreeperFuseExtension();
+        if (extension > 0 && currentFuseTime > 0 && currentFuseTime < extension) {
+            currentFuseTime = Math.max(0, currentFuseTime - 1);
         }
     }
 }
@@ -19,7 +19,7 @@ public abstract class EndermanEntityMixin {
         MobPerceptionHandler handler = SoulboundMod.getMobPerceptionHandler();
         if (handler == null) return;
 
-        if (handler.shouldEndermanBeNeutral(serverPlayer)) {
+        if (handler.getProfile(serverPlayer).isEndermanNeutral()) {
             cir.setReturnValue(false);
         }
     }
@@ -0,0 +1,23 @@
+package dev.soulbound.mixin;
+
+import dev.soulbound.SoulboundMod;
+import dev.soulbound.persistence.AlignmentJournal;
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(MinecraftServer.class)
+public abstract class MinecraftServerMixin {
+    @Inject(method = "saveAll", at = @At("RETURN"))
+    private void soulbound$checkpointJournal(boolean suppressLogs, boolean flush, boolean force,
+                                             CallbackInfoReturnable<Boolean> cir) {
+        if (!cir.getReturnValueZ()) return;
+
+        AlignmentJournal journal = SoulboundMod.getAlignmentJournal();
+        if (journal != null) {
+            journal.checkpoint();
+        }
+    }
+}
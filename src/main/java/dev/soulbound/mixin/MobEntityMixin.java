@@ -1,18 +1,33 @@
 package dev.soulbound.mixin;
 
 import dev.soulbound.SoulboundMod;
+import dev.soulbound.alignment.AlignmentDataAccessor;
 import dev.soulbound.handler.MobPerceptionHandler;
+import dev.soulbound.perception.MobCategory;
+import dev.soulbound.perception.PerceptionProfile;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.mob.SpiderEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(MobEntity.class)
 public abstract class MobEntityMixin {
+    @Unique
+    private int soulbound$decisionTarget = -1;
+
+    @Unique
+    private long soulbound$decisionVersion;
+
+    @Unique
+    private int soulbound$decisionUntil;
+
+    @Unique
+    private boolean soulbound$decisionAvoid;
+
     @Inject(method = "setTarget", at = @At("HEAD"), cancellable = true)
     private void soulbound$modifyTargeting(LivingEntity target, CallbackInfo ci) {
         if (target == null) return;
@@ -22,12 +37,16 @@ public abstract class MobEntityMixin {
         MobPerceptionHandler handler = SoulboundMod.getMobPerceptionHandler();
         if (handler == null) return;
 
-        if (handler.shouldAvoidTarget(self, player)) {
+        PerceptionProfile profile = handler.getProfile(player);
+        if (!profile.isActive()) return;
+
+        int categoryMask = handler.getCategoryMask(self);
+        if (soulbound$shouldAvoid(self, player, profile, categoryMask)) {
             ci.cancel();
             return;
         }
 
-        if (self instanceof SpiderEntity && handler.shouldSpiderAvoidDuringDay(player)) {
+        if (profile.isSpiderAvoidingByDay() && (categoryMask & MobCategory.SPIDER.bit()) != 0) {
             long timeOfDay = self.getWorld().getTimeOfDay() % 24000;
             boolean isDaytime = timeOfDay < 13000 || timeOfDay > 23000;
             if (isDaytime) {
@@ -36,9 +55,25 @@ public abstract class MobEntityMixin {
             }
         }
 
-        int delayTicks = handler.getAttackDelayTicks(self, player);
+        int delayTicks = profile.getAttackDelayTicks(categoryMask);
         if (delayTicks > 0 && self.age % delayTicks < delayTicks / 2) {
             ci.cancel();
         }
     }
+
+    @Unique
+    private boolean soulbound$shouldAvoid(MobEntity self, ServerPlayerEntity player,
+                                          PerceptionProfile profile, int categoryMask) {
+        long version = ((AlignmentDataAccessor) player).soulbound$getAlignmentData().getVersion();
+        if (soulbound$decisionTarget == player.getId() && soulbound$decisionVersion == version
+                && self.age < soulbound$decisionUntil) {
+            return soulbound$decisionAvoid;
+        }
+
+        soulbound$decisionAvoid = profile.rollAvoid(self, categoryMask);
+        soulbound$decisionTarget = player.getId();
+        soulbound$decisionVersion = version;
+        soulbound$decisionUntil = self.age + SoulboundMod.getConfigManager().getTargetDecisionHoldTicks();
+        return soulbound$decisionAvoid;
+    }
 }
@@ -1,7 +1,12 @@
 package dev.soulbound.mixin;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentData;
 import dev.soulbound.alignment.AlignmentDataAccessor;
+import dev.soulbound.effect.ModifierTracker;
+import dev.soulbound.effect.ModifierTrackerAccessor;
+import dev.soulbound.perception.PerceptionProfile;
+import dev.soulbound.perception.PerceptionProfileAccessor;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.network.ServerPlayerEntity;
 import org.spongepowered.asm.mixin.Mixin;
@@ -11,23 +16,40 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ServerPlayerEntity.class)
-public abstract class ServerPlayerEntityMixin implements AlignmentDataAccessor {
+public abstract class ServerPlayerEntityMixin implements AlignmentDataAccessor, ModifierTrackerAccessor, PerceptionProfileAccessor {
     @Unique
     private AlignmentData soulbound$alignmentData = new AlignmentData();
 
+    @Unique
+    private final ModifierTracker soulbound$modifierTracker = new ModifierTracker();
+
+    @Unique
+    private final PerceptionProfile soulbound$perceptionProfile = new PerceptionProfile();
+
     @Override
     public AlignmentData soulbound$getAlignmentData() {
         return soulbound$alignmentData;
     }
 
+    @Override
+    public ModifierTracker soulbound$getModifierTracker() {
+        return soulbound$modifierTracker;
+    }
+
+    @Override
+    public PerceptionProfile soulbound$getPerceptionProfile() {
+        return soulbound$perceptionProfile;
+    }
+
     @Override
     public void soulbound$setAlignmentData(AlignmentData data) {
+        data.invalidateCache();
         this.soulbound$alignmentData = data;
     }
 
     @Override
     public void soulbound$writeAlignmentNbt(NbtCompound nbt) {
-        nbt.put("SoulboundAlignment", soulbound$alignmentData.toNbt());
+        nbt.put("SoulboundAlignment", soulbound$alignmentData.toCachedNbt());
     }
 
     @Override
@@ -39,6 +61,7 @@ public abstract class ServerPlayerEntityMixin implements AlignmentDataAccessor {
 
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void soulbound$writeNbt(NbtCompound nbt, CallbackInfo ci) {
+        SoulboundMod.getAlignmentManager().applyPendingDecay((ServerPlayerEntity) (Object) this);
         soulbound$writeAlignmentNbt(nbt);
     }
 
@@ -51,5 +74,6 @@ public abstract class ServerPlayerEntityMixin implements AlignmentDataAccessor {
     private void soulbound$copyFrom(ServerPlayerEntity oldPlayer, boolean alive, CallbackInfo ci) {
         AlignmentDataAccessor oldAccessor = (AlignmentDataAccessor) oldPlayer;
         this.soulbound$alignmentData = oldAccessor.soulbound$getAlignmentData();
+        this.soulbound$alignmentData.invalidateCache();
     }
 }
@@ -0,0 +1,31 @@
+package dev.soulbound.perception;
+
+import dev.soulbound.SoulboundMod;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+
+public enum MobCategory {
+    ZOMBIE("zombies"),
+    SKELETON("skeletons"),
+    ILLAGER("illagers"),
+    ARTHROPOD("arthropods"),
+    EXPLOSIVE("explosives"),
+    SPIDER("spiders"),
+    BOSS("bosses");
+
+    private final TagKey<EntityType<?>> tag;
+
+    MobCategory(String tagName) {
+        this.tag = TagKey.of(RegistryKeys.ENTITY_TYPE, new Identifier(SoulboundMod.MOD_ID, tagName));
+    }
+
+    public TagKey<EntityType<?>> getTag() {
+        return tag;
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
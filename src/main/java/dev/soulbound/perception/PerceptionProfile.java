@@ -0,0 +1,126 @@
+package dev.soulbound.perception;
+
+import dev.soulbound.alignment.AlignmentData;
+import dev.soulbound.alignment.AlignmentSnapshot;
+import dev.soulbound.alignment.AlignmentType;
+import dev.soulbound.config.ConfigManager;
+import dev.soulbound.registry.AlignmentRegistry;
+import net.minecraft.entity.mob.MobEntity;
+
+public class PerceptionProfile {
+    private AlignmentData source;
+    private long version = -1;
+    private int configEpoch = -1;
+
+    private boolean active;
+    private int avoidMask;
+    private float avoidChance;
+    private AlignmentType apexType;
+    private float apexAvoidChance;
+    private int delayMask;
+    private int attackDelayTicks;
+    private int creeperFuseExtension;
+    private boolean endermanNeutral;
+    private boolean spiderAvoidsByDay;
+
+    public boolean isCurrent(AlignmentData data, int configEpoch) {
+        return source == data && version == data.getVersion() && this.configEpoch == configEpoch;
+    }
+
+    public void rebuild(AlignmentData data, ConfigManager configManager) {
+        source = data;
+        version = data.getVersion();
+        configEpoch = configManager.getEpoch();
+
+        active = false;
+        avoidMask = 0;
+        avoidChance = 0;
+        apexType = null;
+        apexAvoidChance = 0;
+        delayMask = 0;
+        attackDelayTicks = 0;
+        creeperFuseExtension = 0;
+        endermanNeutral = false;
+        spiderAvoidsByDay = false;
+
+        if (!configManager.isEnabled()) return;
+
+        AlignmentSnapshot snapshot = data.getSnapshot(configManager.getApexThreshold());
+        AlignmentType dominant = snapshot.dominant();
+        if (dominant == null) return;
+
+        active = true;
+        float strength = snapshot.apexProgress();
+        float multiplier = configManager.getEffectStrengthMultiplier();
+        int tier = snapshot.tier().ordinal();
+        float tierMultiplier = 1.0f + (tier * 0.15f);
+        int tierBonus = tier * 5;
+
+        switch (dominant) {
+            case PRECISION -> setAvoid(MobCategory.SKELETON, strength > 0.4f ? 0.35f * strength * tierMultiplier : 0);
+            case DECAY -> {
+                setAvoid(MobCategory.ZOMBIE, strength > 0.5f ? 0.25f * strength * tierMultiplier : 0);
+                setDelay(MobCategory.ZOMBIE, (int) (40 * strength * multiplier) + tierBonus);
+            }
+            case INSTINCT -> {
+                setAvoid(MobCategory.ARTHROPOD, strength > 0.5f ? 0.2f * strength * tierMultiplier : 0);
+                setDelay(MobCategory.ARTHROPOD, (int) (25 * strength * multiplier) + tierBonus);
+                spiderAvoidsByDay = strength > 0.25f;
+            }
+            case VOLATILITY -> {
+                setAvoid(MobCategory.EXPLOSIVE, strength > 0.6f ? 0.2f * strength * tierMultiplier : 0);
+                setDelay(MobCategory.EXPLOSIVE, (int) (35 * strength * multiplier) + tierBonus);
+                if (strength > 0.25f) {
+                    creeperFuseExtension = (int) (15 * strength * multiplier) + tier * 3;
+                }
+            }
+            case SAVAGERY -> setDelay(MobCategory.ILLAGER, (int) (30 * strength * multiplier) + tierBonus);
+            case VOID -> endermanNeutral = strength > 0.25f;
+        }
+
+        if (snapshot.apex()) {
+            apexType = dominant;
+            apexAvoidChance = 0.4f * tierMultiplier;
+        }
+    }
+
+    private void setAvoid(MobCategory category, float chance) {
+        avoidMask = category.bit();
+        avoidChance = chance;
+    }
+
+    private void setDelay(MobCategory category, int ticks) {
+        delayMask = category.bit();
+        attackDelayTicks = ticks;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean rollAvoid(MobEntity mob, int categoryMask) {
+        if ((categoryMask & avoidMask) != 0) {
+            return avoidChance > 0 && mob.getRandom().nextFloat() < avoidChance;
+        }
+        if (apexType != null && AlignmentRegistry.getAlignmentForEntity(mob) == apexType) {
+            return mob.getRandom().nextFloat() < apexAvoidChance;
+        }
+        return false;
+    }
+
+    public int getAttackDelayTicks(int categoryMask) {
+        return (categoryMask & delayMask) != 0 ? attackDelayTicks : 0;
+    }
+
+    public int getCreeperFuseExtension() {
+        return creeperFuseExtension;
+    }
+
+    public boolean isEndermanNeutral() {
+        return endermanNeutral;
+    }
+
+    public boolean isSpiderAvoidingByDay() {
+        return spiderAvoidsByDay;
+    }
+}
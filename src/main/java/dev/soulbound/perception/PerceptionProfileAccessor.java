@@ -0,0 +1,5 @@
+package dev.soulbound.perception;
+
+public interface PerceptionProfileAccessor {
+    PerceptionProfile soulbound$getPerceptionProfile();
+}
@@ -0,0 +1,240 @@
+package dev.soulbound.persistence;
+
+import dev.soulbound.SoulboundMod;
+import dev.soulbound.alignment.AlignmentType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class AlignmentJournal {
+    private static final int MAGIC = 0x534A524E;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 37;
+    private static final Object STOP = new Object();
+
+    private final Path path;
+    private final long commitIntervalMs;
+    private final LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Map<UUID, List<Entry>> pending = new HashMap<>();
+    private FileChannel channel;
+    private final Thread writer;
+    private long nextSeq;
+
+    private AlignmentJournal(Path path, long commitIntervalMs, FileChannel channel, long nextSeq) {
+        this.path = path;
+        this.commitIntervalMs = commitIntervalMs;
+        this.channel = channel;
+        this.nextSeq = nextSeq;
+        this.writer = new Thread(this::runWriter, "Soulbound Journal");
+        this.writer.setDaemon(true);
+    }
+
+    public static AlignmentJournal open(Path path, long commitIntervalMs) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.deleteIfExists(checkpointPath(path));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long baseSeq = 1;
+        List<Entry> entries = new ArrayList<>();
+        long validBytes = 0;
+
+        long size = channel.size();
+        if (size >= HEADER_BYTES) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, Integer.MAX_VALUE));
+            int read = 0;
+            while (read >= 0 && buffer.hasRemaining()) {
+                read = channel.read(buffer);
+            }
+            buffer.flip();
+            if (buffer.getInt() == MAGIC && buffer.getInt() == FORMAT) {
+                baseSeq = buffer.getLong();
+                validBytes = HEADER_BYTES;
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    entries.add(readEntry(buffer));
+                    validBytes += RECORD_BYTES;
+                }
+            } else {
+                SoulboundMod.LOGGER.warn("Ignoring unrecognized alignment journal at {}", path);
+            }
+        }
+
+        long nextSeq = baseSeq;
+        for (Entry entry : entries) {
+            nextSeq = Math.max(nextSeq, entry.seq() + 1);
+        }
+
+        if (validBytes == 0) {
+            channel.truncate(0);
+            channel.position(0);
+            writeFully(channel, header(nextSeq));
+        } else {
+            channel.truncate(validBytes);
+            channel.position(validBytes);
+        }
+        channel.force(true);
+
+        AlignmentJournal journal = new AlignmentJournal(path, commitIntervalMs, channel, nextSeq);
+        for (Entry entry : entries) {
+            journal.pending.computeIfAbsent(entry.player(), id -> new ArrayList<>()).add(entry);
+        }
+        if (!entries.isEmpty()) {
+            SoulboundMod.LOGGER.info("Alignment journal has {} pending deltas for {} players",
+                    entries.size(), journal.pending.size());
+        }
+        journal.writer.start();
+        return journal;
+    }
+
+    public long append(UUID player, AlignmentType type, float amount, long tick) {
+        long seq = nextSeq++;
+        queue.offer(new Entry(seq, player, type.ordinal(), amount, tick));
+        return seq;
+    }
+
+    public List<Entry> takePending(UUID player) {
+        List<Entry> entries = pending.remove(player);
+        return entries != null ? entries : Collections.emptyList();
+    }
+
+    public void checkpoint() {
+        List<Entry> retained = new ArrayList<>();
+        for (List<Entry> entries : pending.values()) {
+            retained.addAll(entries);
+        }
+        queue.offer(new Checkpoint(nextSeq, retained));
+    }
+
+    public void close() {
+        checkpoint();
+        queue.offer(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 256);
+        boolean running = true;
+
+        while (running) {
+            try {
+                batch.add(queue.take());
+                Thread.sleep(commitIntervalMs);
+                queue.drainTo(batch);
+
+                buffer.clear();
+                for (Object item : batch) {
+                    if (item instanceof Entry entry) {
+                        if (buffer.remaining() < RECORD_BYTES) {
+                            buffer = grow(buffer);
+                        }
+                        writeEntry(buffer, entry);
+                    } else if (item instanceof Checkpoint checkpoint) {
+                        buffer.clear();
+                        rewrite(checkpoint);
+                    } else if (item == STOP) {
+                        running = false;
+                    }
+                }
+                batch.clear();
+
+                buffer.flip();
+                writeFully(channel, buffer);
+                channel.force(false);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                SoulboundMod.LOGGER.error("Failed to write alignment journal {}", path, e);
+                batch.clear();
+            }
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            SoulboundMod.LOGGER.error("Failed to close alignment journal {}", path, e);
+        }
+    }
+
+    private void rewrite(Checkpoint checkpoint) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + RECORD_BYTES * checkpoint.retained().size());
+        buffer.put(header(checkpoint.baseSeq()));
+        for (Entry entry : checkpoint.retained()) {
+            writeEntry(buffer, entry);
+        }
+        buffer.flip();
+
+        Path temp = checkpointPath(path);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, buffer);
+            out.force(true);
+        }
+
+        channel.close();
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+    }
+
+    private static Path checkpointPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    private static ByteBuffer header(long baseSeq) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES);
+        buffer.putInt(MAGIC).putInt(FORMAT).putLong(baseSeq);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeEntry(ByteBuffer buffer, Entry entry) {
+        buffer.putLong(entry.seq());
+        buffer.putLong(entry.player().getMostSignificantBits());
+        buffer.putLong(entry.player().getLeastSignificantBits());
+        buffer.put((byte) entry.typeOrdinal());
+        buffer.putFloat(entry.amount());
+        buffer.putLong(entry.tick());
+    }
+
+    private static Entry readEntry(ByteBuffer buffer) {
+        long seq = buffer.getLong();
+        UUID player = new UUID(buffer.getLong(), buffer.getLong());
+        int typeOrdinal = buffer.get();
+        float amount = buffer.getFloat();
+        long tick = buffer.getLong();
+        return new Entry(seq, player, typeOrdinal, amount, tick);
+    }
+
+    public record Entry(long seq, UUID player, int typeOrdinal, float amount, long tick) {}
+
+    private record Checkpoint(long baseSeq, List<Entry> retained) {}
+}
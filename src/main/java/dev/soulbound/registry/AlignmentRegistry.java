@@ -1,159 +1,87 @@
 package dev.soulbound.registry;
 
+import dev.soulbound.SoulboundMod;
 import dev.soulbound.alignment.AlignmentType;
+import dev.soulbound.config.ConfigManager;
+import dev.soulbound.perception.MobCategory;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.boss.WitherEntity;
-import net.minecraft.entity.boss.dragon.EnderDragonEntity;
-import net.minecraft.entity.passive.*;
-import net.minecraft.entity.mob.*;
+import net.minecraft.registry.Registries;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
 
 import java.util.*;
 
 public class AlignmentRegistry {
-    private static final Map<EntityType<?>, AlignmentType> ENTITY_ALIGNMENT_MAP = new HashMap<>();
-    private static final Map<EntityType<?>, Float> ENTITY_WEIGHT_MAP = new HashMap<>();
-    private static final Map<EntityType<?>, Integer> ENTITY_TIER_REQ = new HashMap<>();
-    private static final Set<EntityType<?>> ELITE_MOBS = new HashSet<>();
-    private static final Set<EntityType<?>> PASSIVE_FEAR_TARGETS = new HashSet<>();
-    private static final Map<EntityType<?>, AlignmentType> SECONDARY_ALIGNMENT_MAP = new HashMap<>();
+    private static final EntityProfile UNRESOLVED = new EntityProfile(null, null, 1.0f, false, false, false);
+    private static volatile Map<Identifier, EntityProfile> definitions = Map.of();
+    private static volatile EntityProfile[] profiles = new EntityProfile[0];
 
     public static void initialize() {
-        registerDecayMobs();
-        registerPrecisionMobs();
-        registerVolatilityMobs();
-        registerVoidMobs();
-        registerInstinctMobs();
-        registerOrderMobs();
-        registerSavageryMobs();
-        registerPassiveMobFear();
-        registerEliteMobs();
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new EntityDefinitionLoader());
     }
 
-    private static void registerDecayMobs() {
-        register(EntityType.ZOMBIE, AlignmentType.DECAY, 1.0f);
-        register(EntityType.ZOMBIE_VILLAGER, AlignmentType.DECAY, 1.2f);
-        register(EntityType.HUSK, AlignmentType.DECAY, 1.4f);
-        register(EntityType.DROWNED, AlignmentType.DECAY, 1.4f);
-        register(EntityType.ZOMBIFIED_PIGLIN, AlignmentType.DECAY, 1.6f);
-        register(EntityType.ZOGLIN, AlignmentType.DECAY, 2.0f);
-        register(EntityType.PHANTOM, AlignmentType.DECAY, 1.8f);
-        registerSecondary(EntityType.PHANTOM, AlignmentType.VOID);
+    static void setDefinitions(Map<Identifier, EntityProfile> loaded) {
+        definitions = Map.copyOf(loaded);
     }
 
-    private static void registerPrecisionMobs() {
-        register(EntityType.SKELETON, AlignmentType.PRECISION, 1.0f);
-        register(EntityType.STRAY, AlignmentType.PRECISION, 1.4f);
-        register(EntityType.WITHER_SKELETON, AlignmentType.PRECISION, 2.0f);
-        registerSecondary(EntityType.WITHER_SKELETON, AlignmentType.DECAY);
-    }
-
-    private static void registerVolatilityMobs() {
-        register(EntityType.CREEPER, AlignmentType.VOLATILITY, 1.5f);
-        register(EntityType.GHAST, AlignmentType.VOLATILITY, 2.2f);
-        register(EntityType.BLAZE, AlignmentType.VOLATILITY, 1.8f);
-        register(EntityType.MAGMA_CUBE, AlignmentType.VOLATILITY, 1.2f);
-        registerSecondary(EntityType.GHAST, AlignmentType.VOID);
-    }
-
-    private static void registerVoidMobs() {
-        register(EntityType.ENDERMAN, AlignmentType.VOID, 1.5f);
-        register(EntityType.ENDERMITE, AlignmentType.VOID, 0.8f);
-        register(EntityType.SHULKER, AlignmentType.VOID, 2.0f);
-        registerSecondary(EntityType.SHULKER, AlignmentType.PRECISION);
-    }
+    public static void rebuild() {
+        EntityProfile[] rebuilt = new EntityProfile[Registries.ENTITY_TYPE.size()];
+        Arrays.fill(rebuilt, EntityProfile.NONE);
+        Map<Identifier, EntityProfile> loaded = definitions;
+        for (EntityType<?> type : Registries.ENTITY_TYPE) {
+            int rawId = Registries.ENTITY_TYPE.getRawId(type);
+            if (rawId < 0 || rawId >= rebuilt.length) continue;
 
-    private static void registerInstinctMobs() {
-        register(EntityType.SPIDER, AlignmentType.INSTINCT, 1.0f);
-        register(EntityType.CAVE_SPIDER, AlignmentType.INSTINCT, 1.4f);
-        register(EntityType.SILVERFISH, AlignmentType.INSTINCT, 0.8f);
-        register(EntityType.BEE, AlignmentType.INSTINCT, 0.6f);
-        register(EntityType.WOLF, AlignmentType.INSTINCT, 0.8f);
-        register(EntityType.GUARDIAN, AlignmentType.INSTINCT, 1.6f);
-        register(EntityType.ELDER_GUARDIAN, AlignmentType.INSTINCT, 2.5f);
-        registerSecondary(EntityType.CAVE_SPIDER, AlignmentType.DECAY);
+            Identifier id = Registries.ENTITY_TYPE.getId(type);
+            if (!id.getNamespace().equals(Identifier.DEFAULT_NAMESPACE)) {
+                rebuilt[rawId] = UNRESOLVED;
+                continue;
+            }
+            rebuilt[rawId] = withCategoryFlags(MobCategoryTable.getMask(type),
+                    loaded.getOrDefault(id, EntityProfile.NONE));
+        }
+        profiles = rebuilt;
     }
 
-    private static void registerOrderMobs() {
-        register(EntityType.VILLAGER, AlignmentType.ORDER, 2.0f);
-        register(EntityType.IRON_GOLEM, AlignmentType.ORDER, 2.5f);
-        register(EntityType.SNOW_GOLEM, AlignmentType.ORDER, 1.0f);
-        register(EntityType.WANDERING_TRADER, AlignmentType.ORDER, 1.5f);
+    private static EntityProfile withCategoryFlags(int categoryMask, EntityProfile profile) {
+        if ((categoryMask & MobCategory.BOSS.bit()) != 0) {
+            return profile.withBoss();
+        }
+        return profile;
     }
 
-    private static void registerSavageryMobs() {
-        register(EntityType.PILLAGER, AlignmentType.SAVAGERY, 1.5f);
-        register(EntityType.VINDICATOR, AlignmentType.SAVAGERY, 1.8f);
-        register(EntityType.EVOKER, AlignmentType.SAVAGERY, 2.2f);
-        register(EntityType.RAVAGER, AlignmentType.SAVAGERY, 2.8f);
-        register(EntityType.WITCH, AlignmentType.SAVAGERY, 1.5f);
-        register(EntityType.VEX, AlignmentType.SAVAGERY, 1.0f);
-        register(EntityType.ILLUSIONER, AlignmentType.SAVAGERY, 2.0f);
-        register(EntityType.HOGLIN, AlignmentType.SAVAGERY, 1.6f);
-        register(EntityType.PIGLIN, AlignmentType.SAVAGERY, 1.3f);
-        register(EntityType.PIGLIN_BRUTE, AlignmentType.SAVAGERY, 2.2f);
-        registerSecondary(EntityType.EVOKER, AlignmentType.VOID);
-        registerSecondary(EntityType.RAVAGER, AlignmentType.INSTINCT);
-    }
+    public static EntityProfile getProfile(LivingEntity entity) {
+        EntityProfile[] table = profiles;
+        int rawId = Registries.ENTITY_TYPE.getRawId(entity.getType());
+        if (rawId < 0 || rawId >= table.length) return EntityProfile.NONE;
 
-    private static void registerPassiveMobFear() {
-        PASSIVE_FEAR_TARGETS.add(EntityType.COW);
-        PASSIVE_FEAR_TARGETS.add(EntityType.SHEEP);
-        PASSIVE_FEAR_TARGETS.add(EntityType.PIG);
-        PASSIVE_FEAR_TARGETS.add(EntityType.CHICKEN);
-        PASSIVE_FEAR_TARGETS.add(EntityType.RABBIT);
-        PASSIVE_FEAR_TARGETS.add(EntityType.HORSE);
-        PASSIVE_FEAR_TARGETS.add(EntityType.DONKEY);
-        PASSIVE_FEAR_TARGETS.add(EntityType.LLAMA);
-        PASSIVE_FEAR_TARGETS.add(EntityType.CAT);
-        PASSIVE_FEAR_TARGETS.add(EntityType.FOX);
+        EntityProfile profile = table[rawId];
+        return profile == UNRESOLVED ? resolve(table, rawId, entity) : profile;
     }
 
-    private static void registerEliteMobs() {
-        ELITE_MOBS.add(EntityType.WITHER_SKELETON);
-        ELITE_MOBS.add(EntityType.ELDER_GUARDIAN);
-        ELITE_MOBS.add(EntityType.EVOKER);
-        ELITE_MOBS.add(EntityType.RAVAGER);
-        ELITE_MOBS.add(EntityType.PIGLIN_BRUTE);
-        ELITE_MOBS.add(EntityType.ZOGLIN);
-    }
+    private static EntityProfile resolve(EntityProfile[] table, int rawId, LivingEntity entity) {
+        Identifier id = Registries.ENTITY_TYPE.getId(entity.getType());
+        int categoryMask = MobCategoryTable.getMask(entity);
+        EntityProfile profile = definitions.get(id);
+        if (profile == null) {
+            ConfigManager config = SoulboundMod.getConfigManager();
+            if (!config.isAutoClassifyEnabled()) return withCategoryFlags(categoryMask, EntityProfile.NONE);
 
-    private static void register(EntityType<?> entityType, AlignmentType alignmentType, float weight) {
-        ENTITY_ALIGNMENT_MAP.put(entityType, alignmentType);
-        ENTITY_WEIGHT_MAP.put(entityType, weight);
-    }
+            profile = EntityClassifier.classify(entity, config.getAutoClassifyWeightMultiplier());
+            if (profile.isAligned()) {
+                SoulboundMod.LOGGER.info("Classified {} as {} (weight {})", id, profile.primary().getId(), profile.weight());
+            }
+        }
 
-    private static void registerSecondary(EntityType<?> entityType, AlignmentType secondaryType) {
-        SECONDARY_ALIGNMENT_MAP.put(entityType, secondaryType);
+        profile = withCategoryFlags(categoryMask, profile);
+        table[rawId] = profile;
+        return profile;
     }
 
     public static AlignmentType getAlignmentForEntity(LivingEntity entity) {
-        return ENTITY_ALIGNMENT_MAP.get(entity.getType());
-    }
-
-    public static AlignmentType getSecondaryAlignment(LivingEntity entity) {
-        return SECONDARY_ALIGNMENT_MAP.get(entity.getType());
-    }
-
-    public static float getWeightForEntity(LivingEntity entity) {
-        Float weight = ENTITY_WEIGHT_MAP.get(entity.getType());
-        return weight != null ? weight : 1.0f;
-    }
-
-    public static boolean isBoss(LivingEntity entity) {
-        return entity instanceof EnderDragonEntity || entity instanceof WitherEntity;
-    }
-
-    public static boolean isElite(LivingEntity entity) {
-        return ELITE_MOBS.contains(entity.getType());
-    }
-
-    public static boolean isPassiveFearTarget(LivingEntity entity) {
-        return PASSIVE_FEAR_TARGETS.contains(entity.getType());
-    }
-
-    public static float getSecondaryWeight(LivingEntity entity) {
-        return getWeightForEntity(entity) * 0.35f;
+        return getProfile(entity).primary();
     }
 
     public static float getDimensionalBonus(AlignmentType type, net.minecraft.registry.RegistryKey<net.minecraft.world.World> dimension) {
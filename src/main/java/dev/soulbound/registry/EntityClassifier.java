@@ -0,0 +1,83 @@
+package dev.soulbound.registry;
+
+import dev.soulbound.alignment.AlignmentType;
+import dev.soulbound.perception.MobCategory;
+import net.minecraft.entity.EntityGroup;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.SpawnGroup;
+import net.minecraft.entity.ai.RangedAttackMob;
+import net.minecraft.entity.mob.AbstractSkeletonEntity;
+import net.minecraft.entity.mob.CreeperEntity;
+import net.minecraft.entity.mob.EndermanEntity;
+import net.minecraft.entity.mob.IllagerEntity;
+import net.minecraft.entity.mob.ShulkerEntity;
+import net.minecraft.entity.mob.SpiderEntity;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.entity.passive.GolemEntity;
+import net.minecraft.entity.passive.MerchantEntity;
+import net.minecraft.registry.tag.EntityTypeTags;
+import net.minecraft.registry.tag.TagKey;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+public class EntityClassifier {
+    private static final List<Rule> RULES = List.of(
+            category(MobCategory.ZOMBIE, AlignmentType.DECAY, 1.2f),
+            category(MobCategory.SKELETON, AlignmentType.PRECISION, 1.2f),
+            category(MobCategory.ILLAGER, AlignmentType.SAVAGERY, 1.5f),
+            category(MobCategory.ARTHROPOD, AlignmentType.INSTINCT, 1.0f),
+            category(MobCategory.EXPLOSIVE, AlignmentType.VOLATILITY, 1.5f),
+            tag(EntityTypeTags.RAIDERS, AlignmentType.SAVAGERY, 1.5f),
+            tag(EntityTypeTags.SKELETONS, AlignmentType.PRECISION, 1.2f),
+            baseClass(ZombieEntity.class, AlignmentType.DECAY, 1.2f),
+            baseClass(AbstractSkeletonEntity.class, AlignmentType.PRECISION, 1.2f),
+            baseClass(IllagerEntity.class, AlignmentType.SAVAGERY, 1.5f),
+            baseClass(SpiderEntity.class, AlignmentType.INSTINCT, 1.0f),
+            baseClass(CreeperEntity.class, AlignmentType.VOLATILITY, 1.5f),
+            baseClass(EndermanEntity.class, AlignmentType.VOID, 1.5f),
+            baseClass(ShulkerEntity.class, AlignmentType.VOID, 2.0f),
+            baseClass(GolemEntity.class, AlignmentType.ORDER, 1.5f),
+            baseClass(MerchantEntity.class, AlignmentType.ORDER, 1.5f),
+            group(EntityGroup.UNDEAD, AlignmentType.DECAY, 1.2f),
+            group(EntityGroup.ARTHROPOD, AlignmentType.INSTINCT, 1.0f),
+            group(EntityGroup.ILLAGER, AlignmentType.SAVAGERY, 1.5f),
+            monster(entity -> entity.getGroup() == EntityGroup.AQUATIC, AlignmentType.INSTINCT, 1.2f),
+            monster(entity -> entity.getType().isFireImmune(), AlignmentType.VOLATILITY, 1.2f),
+            monster(entity -> entity instanceof RangedAttackMob, AlignmentType.PRECISION, 1.0f)
+    );
+
+    public static EntityProfile classify(LivingEntity entity, float weightMultiplier) {
+        for (Rule rule : RULES) {
+            if (rule.matcher().test(entity)) {
+                return new EntityProfile(rule.alignment(), null, rule.weight() * weightMultiplier,
+                        false, false, false);
+            }
+        }
+        return EntityProfile.NONE;
+    }
+
+    private static Rule category(MobCategory category, AlignmentType alignment, float weight) {
+        return new Rule(entity -> MobCategoryTable.is(entity, category), alignment, weight);
+    }
+
+    private static Rule tag(TagKey<EntityType<?>> tag, AlignmentType alignment, float weight) {
+        return new Rule(entity -> entity.getType().isIn(tag), alignment, weight);
+    }
+
+    private static Rule baseClass(Class<? extends LivingEntity> type, AlignmentType alignment, float weight) {
+        return new Rule(type::isInstance, alignment, weight);
+    }
+
+    private static Rule group(EntityGroup group, AlignmentType alignment, float weight) {
+        return new Rule(entity -> entity.getGroup() == group, alignment, weight);
+    }
+
+    private static Rule monster(Predicate<LivingEntity> matcher, AlignmentType alignment, float weight) {
+        return new Rule(entity -> entity.getType().getSpawnGroup() == SpawnGroup.MONSTER && matcher.test(entity),
+                alignment, weight);
+    }
+
+    private record Rule(Predicate<LivingEntity> matcher, AlignmentType alignment, float weight) {}
+}
@@ -0,0 +1,89 @@
+package dev.soulbound.registry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import dev.soulbound.SoulboundMod;
+import dev.soulbound.alignment.AlignmentType;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+public class EntityDefinitionLoader implements SimpleSynchronousResourceReloadListener {
+    private static final Identifier ID = new Identifier(SoulboundMod.MOD_ID, "entities");
+    private static final String DIRECTORY = "soulbound/entities";
+
+    @Override
+    public Identifier getFabricId() {
+        return ID;
+    }
+
+    @Override
+    public void reload(ResourceManager manager) {
+        Map<Identifier, EntityProfile> definitions = new HashMap<>();
+        Map<Identifier, Resource> resources = manager.findResources(DIRECTORY, id -> id.getPath().endsWith(".json"));
+
+        for (Map.Entry<Identifier, Resource> entry : resources.entrySet()) {
+            try (Reader reader = entry.getValue().getReader()) {
+                parseFile(entry.getKey(), JsonHelper.deserialize(reader), definitions);
+            } catch (IOException | JsonParseException e) {
+                SoulboundMod.LOGGER.error("Failed to load entity definitions from {}", entry.getKey(), e);
+            }
+        }
+
+        AlignmentRegistry.setDefinitions(definitions);
+        SoulboundMod.LOGGER.info("Loaded alignment definitions for {} entity types from {} files",
+                definitions.size(), resources.size());
+    }
+
+    private void parseFile(Identifier file, JsonObject root, Map<Identifier, EntityProfile> definitions) {
+        AlignmentType fileAlignment = root.has("alignment") ? parseAlignment(JsonHelper.getString(root, "alignment")) : null;
+        JsonObject entities = JsonHelper.getObject(root, "entities");
+
+        for (Map.Entry<String, JsonElement> entry : entities.entrySet()) {
+            Identifier entityId = Identifier.tryParse(entry.getKey());
+            if (entityId == null) {
+                SoulboundMod.LOGGER.warn("Invalid entity id '{}' in {}", entry.getKey(), file);
+                continue;
+            }
+
+            try {
+                JsonObject json = JsonHelper.asObject(entry.getValue(), entry.getKey());
+                EntityProfile current = definitions.getOrDefault(entityId, EntityProfile.NONE);
+                AlignmentType primary = json.has("alignment")
+                        ? parseAlignment(JsonHelper.getString(json, "alignment"))
+                        : fileAlignment != null ? fileAlignment : current.primary();
+                AlignmentType secondary = json.has("secondary")
+                        ? parseAlignment(JsonHelper.getString(json, "secondary"))
+                        : current.secondary();
+
+                definitions.put(entityId, new EntityProfile(
+                        primary,
+                        secondary,
+                        JsonHelper.getFloat(json, "weight", current.weight()),
+                        JsonHelper.getBoolean(json, "elite", current.elite()),
+                        JsonHelper.getBoolean(json, "passive_fear", current.passiveFear()),
+                        false
+                ));
+            } catch (JsonParseException e) {
+                SoulboundMod.LOGGER.warn("Skipping entity {} in {}: {}", entityId, file, e.getMessage());
+            }
+        }
+    }
+
+    private static AlignmentType parseAlignment(String id) {
+        AlignmentType type = AlignmentType.fromId(id);
+        if (type == null) {
+            throw new JsonSyntaxException("Unknown alignment '" + id + "'");
+        }
+        return type;
+    }
+}
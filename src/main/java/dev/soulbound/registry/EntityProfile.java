@@ -0,0 +1,16 @@
+package dev.soulbound.registry;
+
+import dev.soulbound.alignment.AlignmentType;
+
+public record EntityProfile(AlignmentType primary, AlignmentType secondary, float weight,
+                            boolean elite, boolean passiveFear, boolean boss) {
+    public static final EntityProfile NONE = new EntityProfile(null, null, 1.0f, false, false, false);
+
+    public boolean isAligned() {
+        return primary != null;
+    }
+
+    public EntityProfile withBoss() {
+        return new EntityProfile(primary, secondary, weight, elite, passiveFear, true);
+    }
+}
@@ -0,0 +1,83 @@
+package dev.soulbound.registry;
+
+import dev.soulbound.perception.MobCategory;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.boss.WitherEntity;
+import net.minecraft.entity.boss.dragon.EnderDragonEntity;
+import net.minecraft.entity.mob.AbstractSkeletonEntity;
+import net.minecraft.entity.mob.CreeperEntity;
+import net.minecraft.entity.mob.GhastEntity;
+import net.minecraft.entity.mob.IllagerEntity;
+import net.minecraft.entity.mob.RavagerEntity;
+import net.minecraft.entity.mob.SilverfishEntity;
+import net.minecraft.entity.mob.SpiderEntity;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+public class MobCategoryTable {
+    private static final int UNRESOLVED = -1;
+    private static final MobCategory[] CATEGORIES = MobCategory.values();
+    private static volatile int[] masks = new int[0];
+
+    public static void rebuild() {
+        int[] rebuilt = new int[Registries.ENTITY_TYPE.size()];
+        for (EntityType<?> type : Registries.ENTITY_TYPE) {
+            int rawId = Registries.ENTITY_TYPE.getRawId(type);
+            if (rawId < 0 || rawId >= rebuilt.length) continue;
+
+            boolean vanilla = Registries.ENTITY_TYPE.getId(type).getNamespace().equals(Identifier.DEFAULT_NAMESPACE);
+            rebuilt[rawId] = vanilla ? tagMask(type) : UNRESOLVED;
+        }
+        masks = rebuilt;
+    }
+
+    private static int tagMask(EntityType<?> type) {
+        int mask = 0;
+        for (MobCategory category : CATEGORIES) {
+            if (type.isIn(category.getTag())) {
+                mask |= category.bit();
+            }
+        }
+        return mask;
+    }
+
+    private static int classMask(Entity entity) {
+        int mask = 0;
+        if (entity instanceof ZombieEntity) mask |= MobCategory.ZOMBIE.bit();
+        if (entity instanceof AbstractSkeletonEntity) mask |= MobCategory.SKELETON.bit();
+        if (entity instanceof IllagerEntity || entity instanceof RavagerEntity) mask |= MobCategory.ILLAGER.bit();
+        if (entity instanceof SpiderEntity) mask |= MobCategory.ARTHROPOD.bit() | MobCategory.SPIDER.bit();
+        if (entity instanceof SilverfishEntity) mask |= MobCategory.ARTHROPOD.bit();
+        if (entity instanceof CreeperEntity || entity instanceof GhastEntity) mask |= MobCategory.EXPLOSIVE.bit();
+        if (entity instanceof EnderDragonEntity || entity instanceof WitherEntity) mask |= MobCategory.BOSS.bit();
+        return mask;
+    }
+
+    public static int getMask(Entity entity) {
+        int[] table = masks;
+        int rawId = Registries.ENTITY_TYPE.getRawId(entity.getType());
+        if (rawId < 0 || rawId >= table.length) return 0;
+
+        int mask = table[rawId];
+        if (mask == UNRESOLVED) {
+            mask = tagMask(entity.getType()) | classMask(entity);
+            table[rawId] = mask;
+        }
+        return mask;
+    }
+
+    public static int getMask(EntityType<?> type) {
+        int[] table = masks;
+        int rawId = Registries.ENTITY_TYPE.getRawId(type);
+        if (rawId < 0 || rawId >= table.length) return 0;
+
+        int mask = table[rawId];
+        return mask == UNRESOLVED ? tagMask(type) : mask;
+    }
+
+    public static boolean is(Entity entity, MobCategory category) {
+        return (getMask(entity) & category.bit()) != 0;
+    }
+}
@@ -0,0 +1,137 @@
+package dev.soulbound.scheduler;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+
+public class BudgetedExecutor {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final UnitRunner runner;
+    private ServerPlayerEntity[] players;
+    private int[] masks;
+    private long[] enqueuedTicks;
+    private int head;
+    private int size;
+
+    private long executedTotal;
+    private long deferredTotal;
+    private long forcedTotal;
+    private long deferredTicks;
+    private int peakDepth;
+    private long lastTickNanos;
+    private int lastTickExecuted;
+
+    public BudgetedExecutor(UnitRunner runner) {
+        this.runner = runner;
+        this.players = new ServerPlayerEntity[INITIAL_CAPACITY];
+        this.masks = new int[INITIAL_CAPACITY];
+        this.enqueuedTicks = new long[INITIAL_CAPACITY];
+    }
+
+    public void submit(ServerPlayerEntity player, int mask, long tick) {
+        if (size == players.length) {
+            grow();
+        }
+        int slot = (head + size) % players.length;
+        players[slot] = player;
+        masks[slot] = mask;
+        enqueuedTicks[slot] = tick;
+        size++;
+        peakDepth = Math.max(peakDepth, size);
+    }
+
+    public void run(long tick, long budgetMicros, int maxDeferralTicks) {
+        long start = System.nanoTime();
+        long budgetNanos = budgetMicros * 1000L;
+        int executed = 0;
+
+        while (size > 0) {
+            boolean overBudget = System.nanoTime() - start >= budgetNanos;
+            boolean starving = tick - enqueuedTicks[head] >= maxDeferralTicks;
+            if (overBudget && !starving) break;
+
+            ServerPlayerEntity player = players[head];
+            int mask = masks[head];
+            players[head] = null;
+            head = (head + 1) % players.length;
+            size--;
+
+            if (player.isRemoved()) continue;
+
+            runner.run(player, mask, tick);
+            executed++;
+            if (overBudget) {
+                forcedTotal++;
+            }
+        }
+
+        if (size > 0) {
+            deferredTotal += size;
+            deferredTicks++;
+        }
+        executedTotal += executed;
+        lastTickExecuted = executed;
+        lastTickNanos = System.nanoTime() - start;
+    }
+
+    public int getQueueDepth() {
+        return size;
+    }
+
+    public int getPeakDepth() {
+        return peakDepth;
+    }
+
+    public long getExecutedTotal() {
+        return executedTotal;
+    }
+
+    public long getDeferredTotal() {
+        return deferredTotal;
+    }
+
+    public long getForcedTotal() {
+        return forcedTotal;
+    }
+
+    public long getDeferredTicks() {
+        return deferredTicks;
+    }
+
+    public int getLastTickExecuted() {
+        return lastTickExecuted;
+    }
+
+    public long getLastTickMicros() {
+        return lastTickNanos / 1000L;
+    }
+
+    public void resetStats() {
+        executedTotal = 0;
+        deferredTotal = 0;
+        forcedTotal = 0;
+        deferredTicks = 0;
+        peakDepth = size;
+    }
+
+    private void grow() {
+        int capacity = players.length * 2;
+        ServerPlayerEntity[] newPlayers = new ServerPlayerEntity[capacity];
+        int[] newMasks = new int[capacity];
+        long[] newTicks = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % players.length;
+            newPlayers[i] = players[slot];
+            newMasks[i] = masks[slot];
+            newTicks[i] = enqueuedTicks[slot];
+        }
+        players = newPlayers;
+        masks = newMasks;
+        enqueuedTicks = newTicks;
+        head = 0;
+    }
+
+    @FunctionalInterface
+    public interface UnitRunner {
+        void run(ServerPlayerEntity player, int stageMask, long tick);
+    }
+}
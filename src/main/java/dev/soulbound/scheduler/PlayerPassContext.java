@@ -0,0 +1,52 @@
+package dev.soulbound.scheduler;
+
+import dev.soulbound.SoulboundMod;
+import dev.soulbound.alignment.AlignmentData;
+import dev.soulbound.alignment.AlignmentDataAccessor;
+import dev.soulbound.alignment.AlignmentSnapshot;
+import dev.soulbound.config.ConfigManager;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+public class PlayerPassContext {
+    private final ConfigManager configManager;
+    private ServerPlayerEntity player;
+    private AlignmentData data;
+    private long tick;
+
+    public PlayerPassContext(ConfigManager configManager) {
+        this.configManager = configManager;
+    }
+
+    void reset(ServerPlayerEntity player, long tick) {
+        this.player = player;
+        this.data = ((AlignmentDataAccessor) player).soulbound$getAlignmentData();
+        this.tick = tick;
+        SoulboundMod.getAlignmentManager().applyPendingDecay(player);
+    }
+
+    void clear() {
+        this.player = null;
+        this.data = null;
+    }
+
+    public ServerPlayerEntity player() {
+        return player;
+    }
+
+    public ServerWorld world() {
+        return player.getServerWorld();
+    }
+
+    public AlignmentData data() {
+        return data;
+    }
+
+    public AlignmentSnapshot snapshot() {
+        return data.getSnapshot(configManager.getApexThreshold());
+    }
+
+    public long tick() {
+        return tick;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.soulbound.scheduler;
+
+import dev.soulbound.config.ConfigManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+public class SoulTickScheduler {
+    private static final int PHASE_SALT = 0x9E3779B9;
+    private static final int MAX_STAGES = Integer.SIZE;
+
+    private final ConfigManager configManager;
+    private final BudgetedExecutor executor;
+    private final PlayerPassContext context;
+    private final List<PlayerStage> playerStages = new ArrayList<>();
+    private final List<ServerTask> serverTasks = new ArrayList<>();
+    private final int[] stageSlots = new int[MAX_STAGES];
+    private final int[] stageIntervals = new int[MAX_STAGES];
+    private long tick;
+
+    public SoulTickScheduler(ConfigManager configManager) {
+        this.configManager = configManager;
+        this.executor = new BudgetedExecutor(this::runStages);
+        this.context = new PlayerPassContext(configManager);
+    }
+
+    public void registerPlayerStage(String name, IntSupplier interval, BooleanSupplier enabled,
+                                    Consumer<PlayerPassContext> stage) {
+        if (playerStages.size() >= MAX_STAGES) {
+            throw new IllegalStateException("Too many player stages, cannot register " + name);
+        }
+        playerStages.add(new PlayerStage(name, interval, enabled, stage));
+    }
+
+    public void registerServerTask(String name, IntSupplier interval, BooleanSupplier enabled,
+                                   Consumer<MinecraftServer> action) {
+        serverTasks.add(new ServerTask(name, interval, enabled, action));
+    }
+
+    public void tick(MinecraftServer server) {
+        tick++;
+
+        for (ServerTask task : serverTasks) {
+            if (!task.enabled().getAsBoolean()) continue;
+            if (tick % Math.max(1, task.interval().getAsInt()) == 0) {
+                task.action().accept(server);
+            }
+        }
+
+        List<ServerPlayerEntity> players = server.getPlayerManager().getPlayerList();
+        if (!players.isEmpty() && !playerStages.isEmpty()) {
+            submitDueStages(players);
+        }
+
+        executor.run(tick, configManager.getTickBudgetMicros(), configManager.getMaxDeferralTicks());
+    }
+
+    private void submitDueStages(List<ServerPlayerEntity> players) {
+        int stageCount = playerStages.size();
+        int enabledMask = 0;
+        for (int s = 0; s < stageCount; s++) {
+            PlayerStage stage = playerStages.get(s);
+            if (!stage.enabled().getAsBoolean()) continue;
+            enabledMask |= 1 << s;
+            stageIntervals[s] = Math.max(1, stage.interval().getAsInt());
+            stageSlots[s] = (int) (tick % stageIntervals[s]);
+        }
+        if (enabledMask == 0) return;
+
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayerEntity player = players.get(i);
+            int phase = phaseOf(player.getUuid().hashCode());
+            int mask = 0;
+            for (int s = 0; s < stageCount; s++) {
+                if ((enabledMask & (1 << s)) == 0) continue;
+                if (phase % stageIntervals[s] == stageSlots[s]) {
+                    mask |= 1 << s;
+                }
+            }
+            if (mask != 0) {
+                executor.submit(player, mask, tick);
+            }
+        }
+    }
+
+    private void runStages(ServerPlayerEntity player, int mask, long currentTick) {
+        context.reset(player, currentTick);
+        try {
+            for (int s = 0; s < playerStages.size(); s++) {
+                if ((mask & (1 << s)) == 0) continue;
+                PlayerStage stage = playerStages.get(s);
+                if (stage.enabled().getAsBoolean()) {
+                    stage.stage().accept(context);
+                }
+            }
+        } finally {
+            context.clear();
+        }
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public BudgetedExecutor getExecutor() {
+        return executor;
+    }
+
+    private static int phaseOf(int uuidHash) {
+        int hash = uuidHash * PHASE_SALT;
+        return (hash ^ (hash >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    private record PlayerStage(String name, IntSupplier interval, BooleanSupplier enabled,
+                               Consumer<PlayerPassContext> stage) {}
+
+    private record ServerTask(String name, IntSupplier interval, BooleanSupplier enabled,
+                              Consumer<MinecraftServer> action) {}
+}
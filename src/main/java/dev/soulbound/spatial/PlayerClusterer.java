@@ -0,0 +1,107 @@
+package dev.soulbound.spatial;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.List;
+
+public class PlayerClusterer {
+    private final Long2IntOpenHashMap cellHead = new Long2IntOpenHashMap();
+    private int[] next = new int[16];
+    private int[] parent = new int[16];
+    private int[] clusterIds = new int[16];
+    private int[] clusterSizes = new int[16];
+    private int clusterCount;
+
+    public PlayerClusterer() {
+        cellHead.defaultReturnValue(-1);
+    }
+
+    public int cluster(List<ServerPlayerEntity> players, double radius) {
+        int size = players.size();
+        ensureCapacity(size);
+        cellHead.clear();
+
+        double cellSize = Math.max(radius, 1.0);
+        double radiusSq = radius * radius;
+
+        for (int i = 0; i < size; i++) {
+            ServerPlayerEntity player = players.get(i);
+            parent[i] = i;
+
+            int cx = MathHelper.floor(player.getX() / cellSize);
+            int cz = MathHelper.floor(player.getZ() / cellSize);
+
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    for (int j = cellHead.get(ChunkPos.toLong(cx + dx, cz + dz)); j >= 0; j = next[j]) {
+                        if (player.squaredDistanceTo(players.get(j)) <= radiusSq) {
+                            union(i, j);
+                        }
+                    }
+                }
+            }
+
+            long key = ChunkPos.toLong(cx, cz);
+            next[i] = cellHead.get(key);
+            cellHead.put(key, i);
+        }
+
+        clusterCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (find(i) == i) {
+                clusterIds[i] = clusterCount;
+                clusterSizes[clusterCount] = 0;
+                clusterCount++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            int id = clusterIds[find(i)];
+            clusterIds[i] = id;
+            clusterSizes[id]++;
+        }
+        return clusterCount;
+    }
+
+    public int getClusterId(int index) {
+        return clusterIds[index];
+    }
+
+    public int getClusterSize(int clusterId) {
+        return clusterSizes[clusterId];
+    }
+
+    public int getClusterCount() {
+        return clusterCount;
+    }
+
+    private int find(int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) return;
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootA] = rootB;
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (next.length >= size) return;
+        int capacity = Math.max(size, next.length * 2);
+        next = new int[capacity];
+        parent = new int[capacity];
+        clusterIds = new int[capacity];
+        clusterSizes = new int[capacity];
+    }
+}
@@ -0,0 +1,122 @@
+package dev.soulbound.spatial;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.List;
+
+class PlayerGrid {
+    private static final int CELL_SHIFT = 4;
+    private static final double MARGIN = 1.0;
+
+    private final Long2IntOpenHashMap cellStart = new Long2IntOpenHashMap();
+    private final Long2IntOpenHashMap cellCount = new Long2IntOpenHashMap();
+    private final Long2IntOpenHashMap cellFill = new Long2IntOpenHashMap();
+    private ServerPlayerEntity[] entries = new ServerPlayerEntity[16];
+    private long[] keys = new long[16];
+    private int size;
+    private int builtTick = -1;
+
+    PlayerGrid() {
+        cellStart.defaultReturnValue(-1);
+    }
+
+    void ensureBuilt(ServerWorld world) {
+        int tick = world.getServer().getTicks();
+        if (tick == builtTick) return;
+        builtTick = tick;
+
+        List<ServerPlayerEntity> players = world.getPlayers();
+        size = players.size();
+        if (entries.length < size) {
+            int capacity = Math.max(size, entries.length * 2);
+            entries = new ServerPlayerEntity[capacity];
+            keys = new long[capacity];
+        }
+
+        cellStart.clear();
+        cellCount.clear();
+        cellFill.clear();
+
+        for (int i = 0; i < size; i++) {
+            ServerPlayerEntity player = players.get(i);
+            long key = ChunkPos.toLong(MathHelper.floor(player.getX()) >> CELL_SHIFT,
+                    MathHelper.floor(player.getZ()) >> CELL_SHIFT);
+            keys[i] = key;
+            cellCount.addTo(key, 1);
+        }
+
+        int offset = 0;
+        for (Long2IntMap.Entry entry : cellCount.long2IntEntrySet()) {
+            cellStart.put(entry.getLongKey(), offset);
+            offset += entry.getIntValue();
+        }
+
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            int slot = cellStart.get(key) + cellFill.addTo(key, 1);
+            entries[slot] = players.get(i);
+        }
+        for (int i = size; i < entries.length && entries[i] != null; i++) {
+            entries[i] = null;
+        }
+    }
+
+    void queryBox(ServerWorld world, Box box, List<ServerPlayerEntity> out) {
+        int minX = MathHelper.floor(box.minX - MARGIN) >> CELL_SHIFT;
+        int maxX = MathHelper.floor(box.maxX + MARGIN) >> CELL_SHIFT;
+        int minZ = MathHelper.floor(box.minZ - MARGIN) >> CELL_SHIFT;
+        int maxZ = MathHelper.floor(box.maxZ + MARGIN) >> CELL_SHIFT;
+
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > cellStart.size()) {
+            for (int i = 0; i < size; i++) {
+                collect(world, entries[i], box, out);
+            }
+            return;
+        }
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                long key = ChunkPos.toLong(cx, cz);
+                int start = cellStart.get(key);
+                if (start < 0) continue;
+                int end = start + cellCount.get(key);
+                for (int i = start; i < end; i++) {
+                    collect(world, entries[i], box, out);
+                }
+            }
+        }
+    }
+
+    void queryRadius(ServerWorld world, Vec3d center, double radius, List<ServerPlayerEntity> out) {
+        Box box = new Box(center.x - radius, center.y - radius, center.z - radius,
+                center.x + radius, center.y + radius, center.z + radius);
+        int from = out.size();
+        queryBox(world, box, out);
+
+        double radiusSq = radius * radius;
+        int write = from;
+        for (int read = from; read < out.size(); read++) {
+            ServerPlayerEntity player = out.get(read);
+            if (player.getPos().squaredDistanceTo(center) <= radiusSq) {
+                out.set(write++, player);
+            }
+        }
+        while (out.size() > write) {
+            out.remove(out.size() - 1);
+        }
+    }
+
+    private static void collect(ServerWorld world, ServerPlayerEntity player, Box box, List<ServerPlayerEntity> out) {
+        if (player.isRemoved() || player.getServerWorld() != world) return;
+        if (box.intersects(player.getBoundingBox())) {
+            out.add(player);
+        }
+    }
+}
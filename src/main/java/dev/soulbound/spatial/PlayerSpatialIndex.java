@@ -0,0 +1,39 @@
+package dev.soulbound.spatial;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PlayerSpatialIndex {
+    private final Map<RegistryKey<World>, PlayerGrid> grids = new HashMap<>();
+
+    public List<ServerPlayerEntity> queryBox(ServerWorld world, Box box, List<ServerPlayerEntity> out) {
+        out.clear();
+        grid(world).queryBox(world, box, out);
+        return out;
+    }
+
+    public List<ServerPlayerEntity> queryRadius(ServerWorld world, Vec3d center, double radius,
+                                                List<ServerPlayerEntity> out) {
+        out.clear();
+        grid(world).queryRadius(world, center, radius, out);
+        return out;
+    }
+
+    public void clear() {
+        grids.clear();
+    }
+
+    private PlayerGrid grid(ServerWorld world) {
+        PlayerGrid grid = grids.computeIfAbsent(world.getRegistryKey(), key -> new PlayerGrid());
+        grid.ensureBuilt(world);
+        return grid;
+    }
+}
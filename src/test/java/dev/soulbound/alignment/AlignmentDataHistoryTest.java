@@ -0,0 +1,54 @@
+package dev.soulbound.alignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AlignmentDataHistoryTest {
+    @Test
+    void secondaryGrantsMergeWithTheirPrimaryRun() {
+        AlignmentData data = new AlignmentData();
+        for (int i = 0; i < 10; i++) {
+            data.addAlignment(AlignmentType.DECAY, 2.0f);
+            data.addAlignment(AlignmentType.VOID, 1.0f, true);
+        }
+
+        List<AlignmentData.AlignmentShift> history = data.getShiftHistory();
+        assertEquals(2, history.size());
+        assertEquals(AlignmentType.DECAY, history.get(0).type());
+        assertEquals(10, history.get(0).count());
+        assertEquals(20.0f, history.get(0).amount());
+        assertEquals(AlignmentType.VOID, history.get(1).type());
+        assertEquals(10, history.get(1).count());
+        assertEquals(10.0f, history.get(1).amount());
+    }
+
+    @Test
+    void separateKillsKeepTheirOrder() {
+        AlignmentData data = new AlignmentData();
+        data.addAlignment(AlignmentType.DECAY, 2.0f);
+        data.addAlignment(AlignmentType.PRECISION, 2.0f);
+        data.addAlignment(AlignmentType.DECAY, 2.0f);
+
+        List<AlignmentData.AlignmentShift> history = data.getShiftHistory();
+        assertEquals(3, history.size());
+        assertEquals(AlignmentType.DECAY, history.get(2).type());
+        assertEquals(1, history.get(2).count());
+    }
+
+    @Test
+    void differentPrimaryAfterPairStartsNewRun() {
+        AlignmentData data = new AlignmentData();
+        data.addAlignment(AlignmentType.DECAY, 2.0f);
+        data.addAlignment(AlignmentType.VOID, 1.0f, true);
+        data.addAlignment(AlignmentType.ORDER, 2.0f);
+        data.addAlignment(AlignmentType.DECAY, 2.0f);
+
+        List<AlignmentData.AlignmentShift> history = data.getShiftHistory();
+        assertEquals(4, history.size());
+        assertEquals(AlignmentType.ORDER, history.get(2).type());
+        assertEquals(AlignmentType.DECAY, history.get(3).type());
+    }
+}
@@ -0,0 +1,162 @@
+package dev.soulbound.alignment;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtList;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlignmentDataNbtTest {
+    private static final AlignmentType[] TYPES = AlignmentType.values();
+    private static final int LEGACY_HISTORY = 20;
+
+    @Test
+    void legacyMigrationSurvivesCompactRoundTrip() {
+        NbtCompound legacy = legacyCompound();
+        AlignmentData migrated = AlignmentData.fromNbt(legacy);
+        assertMatchesLegacy(legacy, migrated);
+
+        AlignmentData restored = AlignmentData.fromNbt(migrated.toNbt());
+        assertMatchesLegacy(legacy, restored);
+        assertEquals(migrated.toNbt(), restored.toNbt());
+    }
+
+    @Test
+    void compactFormatIsSmallerThanLegacy() throws IOException {
+        int legacyBytes = compressed(legacyCompound()).length;
+        int compactBytes = compressed(AlignmentData.fromNbt(legacyCompound()).toNbt()).length;
+
+        assertTrue(compactBytes < legacyBytes, "compact " + compactBytes + " >= legacy " + legacyBytes);
+    }
+
+    private static void assertMatchesLegacy(NbtCompound legacy, AlignmentData data) {
+        NbtCompound alignments = legacy.getCompound("Alignments");
+        NbtCompound killTimestamps = legacy.getCompound("KillTimestamps");
+        NbtCompound killCounts = legacy.getCompound("KillCounts");
+        NbtCompound killsByAlignment = legacy.getCompound("KillsByAlignment");
+
+        for (AlignmentType type : TYPES) {
+            String id = type.getId();
+            assertEquals(alignments.getFloat(id), data.getAlignment(type), id + " value");
+            assertEquals(killsByAlignment.getInt(id), data.getKills(type), id + " kills");
+            long lastKill = killTimestamps.contains(id) ? killTimestamps.getLong(id) : AlignmentData.NO_KILL;
+            assertEquals(lastKill, data.getLastKillTick(type), id + " last kill");
+            assertEquals(killCounts.getInt(id), data.getWindowKillCount(type, lastKill, Integer.MAX_VALUE),
+                    id + " window kills");
+        }
+
+        assertEquals(AlignmentType.fromId(legacy.getString("Dominant")), data.getDominant());
+        assertEquals(AlignmentType.fromId(legacy.getString("Secondary")), data.getSecondary());
+        assertEquals(AlignmentType.fromId(legacy.getString("PreviousDominant")), data.getPreviousDominant());
+        assertEquals(AlignmentType.fromId(legacy.getString("MomentumType")), data.getMomentumType());
+        assertEquals(legacy.getInt("MomentumStreak"), data.getMomentumStreak());
+        assertEquals(legacy.getFloat("MomentumMultiplier"), data.getMomentumMultiplier());
+        assertEquals(legacy.getInt("TotalKills"), data.getTotalKills());
+        assertEquals(legacy.getInt("SpatialKillCount"), data.getSpatialKillCount());
+        assertEquals(legacy.getFloat("FractureLevel"), data.getFractureLevel());
+        assertEquals(legacy.getFloat("ResonanceBonus"), data.getResonanceBonus());
+        assertEquals(legacy.getLong("LastUpdate"), data.getLastUpdateTimestamp());
+        assertEquals(legacy.getLong("LastResonanceCheck"), data.getLastResonanceCheck());
+        assertEquals(legacy.getLong("SoulEchoExpiry"), data.getSoulEchoExpiry());
+
+        assertEquals(legacy.getBoolean("IsApex"), data.isApex());
+        assertEquals(legacy.getBoolean("IsFractured"), data.isFractured());
+        assertEquals(legacy.getBoolean("SoulEchoActive"), data.isSoulEchoActive());
+        assertTrue(data.isApex());
+        assertTrue(data.isFractured());
+        assertFalse(data.isSoulEchoActive());
+
+        assertEquals(expectedRuns(legacy.getList("ShiftHistory", 10)), data.getShiftHistory());
+    }
+
+    private static List<AlignmentData.AlignmentShift> expectedRuns(NbtList history) {
+        List<AlignmentData.AlignmentShift> runs = new ArrayList<>();
+        for (int i = 0; i < history.size(); i++) {
+            NbtCompound shift = history.getCompound(i);
+            AlignmentType type = AlignmentType.fromId(shift.getString("Type"));
+            float amount = shift.getFloat("Amount");
+            long time = shift.getLong("Time");
+
+            int last = runs.size() - 1;
+            if (last >= 0 && runs.get(last).type() == type) {
+                AlignmentData.AlignmentShift run = runs.get(last);
+                runs.set(last, new AlignmentData.AlignmentShift(type, run.amount() + amount, time, run.count() + 1));
+            } else {
+                runs.add(new AlignmentData.AlignmentShift(type, amount, time, 1));
+            }
+        }
+        return runs;
+    }
+
+    static NbtCompound legacyCompound() {
+        NbtCompound nbt = new NbtCompound();
+
+        NbtCompound alignments = new NbtCompound();
+        NbtCompound killTimestamps = new NbtCompound();
+        NbtCompound killCounts = new NbtCompound();
+        NbtCompound killsByAlignment = new NbtCompound();
+        for (AlignmentType type : TYPES) {
+            int i = type.ordinal();
+            alignments.putFloat(type.getId(), i == 3 ? 0.0f : 12.5f * (i + 1) + 0.25f);
+            if (i % 2 == 0) {
+                killTimestamps.putLong(type.getId(), 48_000L + i * 37);
+            }
+            killCounts.putInt(type.getId(), i + 2);
+            killsByAlignment.putInt(type.getId(), 10 * i + 3);
+        }
+        nbt.put("Alignments", alignments);
+
+        nbt.putString("Dominant", AlignmentType.SAVAGERY.getId());
+        nbt.putString("Secondary", AlignmentType.ORDER.getId());
+        nbt.putString("PreviousDominant", AlignmentType.INSTINCT.getId());
+        nbt.putFloat("FractureLevel", 17.75f);
+        nbt.putLong("LastUpdate", 96_000L);
+        nbt.putBoolean("IsApex", true);
+        nbt.putBoolean("IsFractured", true);
+        nbt.put("KillTimestamps", killTimestamps);
+        nbt.put("KillCounts", killCounts);
+
+        nbt.putInt("MomentumStreak", 6);
+        nbt.putString("MomentumType", AlignmentType.SAVAGERY.getId());
+        nbt.putFloat("MomentumMultiplier", 1.6f);
+        nbt.putInt("TotalKills", 213);
+        nbt.put("KillsByAlignment", killsByAlignment);
+
+        nbt.putDouble("LastKillX", 120.5);
+        nbt.putDouble("LastKillY", 64.0);
+        nbt.putDouble("LastKillZ", -842.25);
+        nbt.putInt("SpatialKillCount", 4);
+
+        nbt.putFloat("ResonanceBonus", 0.3f);
+        nbt.putLong("LastResonanceCheck", 95_800L);
+        nbt.putBoolean("SoulEchoActive", false);
+        nbt.putLong("SoulEchoExpiry", 0L);
+        nbt.putLong("DominantChangedAt", 1_700_000_000_000L);
+
+        NbtList history = new NbtList();
+        for (int i = 0; i < LEGACY_HISTORY; i++) {
+            NbtCompound shift = new NbtCompound();
+            shift.putString("Type", TYPES[(i / 3) % TYPES.length].getId());
+            shift.putFloat("Amount", 1.0f + (i % 4) * 0.5f);
+            shift.putLong("Time", 1_700_000_000_000L + i * 1500L);
+            history.add(shift);
+        }
+        nbt.put("ShiftHistory", history);
+
+        return nbt;
+    }
+
+    static byte[] compressed(NbtCompound nbt) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(nbt, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,204 @@
+package dev.soulbound.alignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AlignmentDataRankingTest {
+    private static final AlignmentType[] TYPES = AlignmentType.values();
+    private static final float[] STEPS = {0.0f, 1.0f, 2.5f, 5.0f, 10.0f, 25.0f};
+
+    @Test
+    void randomizedSequencesMatchSortedReference() {
+        for (long seed = 0; seed < 200; seed++) {
+            Random random = new Random(seed);
+            AlignmentData data = new AlignmentData();
+            Reference reference = new Reference();
+
+            for (int op = 0; op < 400; op++) {
+                String step = apply(data, random);
+                reference.fracture(data, random.nextFloat() * 20.0f);
+                data.recalculateFracture(reference.lastThreshold);
+                assertMatches(data, reference, "seed " + seed + " op " + op + " " + step);
+            }
+        }
+    }
+
+    @Test
+    void tiesRankLowerOrdinalFirst() {
+        AlignmentData data = new AlignmentData();
+        data.setAlignment(AlignmentType.SAVAGERY, 10.0f);
+        data.setAlignment(AlignmentType.PRECISION, 10.0f);
+        data.setAlignment(AlignmentType.VOID, 10.0f);
+        data.setAlignment(AlignmentType.DECAY, 10.0f);
+
+        assertEquals(AlignmentType.DECAY, data.getDominant());
+        assertEquals(AlignmentType.PRECISION, data.getSecondary());
+        assertEquals(AlignmentType.VOID, data.getRankedType(2));
+        assertEquals(4, data.getPositiveAlignmentCount());
+        assertMatches(data, new Reference(), "ties");
+    }
+
+    @Test
+    void negativeWritesClampAndDropOutOfRanking() {
+        AlignmentData data = new AlignmentData();
+        data.setAlignment(AlignmentType.ORDER, 20.0f);
+        data.setAlignment(AlignmentType.VOID, 15.0f);
+        data.setAlignment(AlignmentType.ORDER, -5.0f);
+        data.addAlignment(AlignmentType.VOID, -30.0f);
+
+        assertEquals(0.0f, data.getAlignment(AlignmentType.ORDER));
+        assertEquals(0.0f, data.getAlignment(AlignmentType.VOID));
+        assertNull(data.getDominant());
+        assertNull(data.getSecondary());
+        assertEquals(0, data.getPositiveAlignmentCount());
+    }
+
+    @Test
+    void decayReordersTrackedAlignments() {
+        AlignmentData data = new AlignmentData();
+        data.setAlignment(AlignmentType.DECAY, 12.0f);
+        data.setAlignment(AlignmentType.INSTINCT, 100.0f);
+        data.setAlignment(AlignmentType.ORDER, 11.0f);
+        data.setAlignment(AlignmentType.VOLATILITY, 0.5f);
+
+        data.decayAll(5.0f);
+        assertEquals(AlignmentType.INSTINCT, data.getDominant());
+        assertEquals(AlignmentType.DECAY, data.getSecondary());
+        assertEquals(AlignmentType.ORDER, data.getRankedType(2));
+        assertEquals(3, data.getPositiveAlignmentCount());
+        assertMatches(data, new Reference(), "decay");
+
+        data.decayAll(5.0f, 3);
+        assertEquals(AlignmentType.INSTINCT, data.getDominant());
+        assertNull(data.getSecondary());
+        assertEquals(AlignmentType.DECAY, data.getRankedType(1));
+        assertEquals(AlignmentType.PRECISION, data.getRankedType(2));
+        assertEquals(1, data.getPositiveAlignmentCount());
+        assertMatches(data, new Reference(), "decay to zero");
+
+        data.setAlignment(AlignmentType.INSTINCT, 0.0f);
+        assertNull(data.getDominant());
+        assertMatches(data, new Reference(), "drop tracked");
+    }
+
+    private static String apply(AlignmentData data, Random random) {
+        AlignmentType type = TYPES[random.nextInt(TYPES.length)];
+        switch (random.nextInt(6)) {
+            case 0, 1 -> {
+                float amount = STEPS[random.nextInt(STEPS.length)];
+                data.addAlignment(type, amount);
+                return "add " + type + " " + amount;
+            }
+            case 2 -> {
+                float amount = -STEPS[random.nextInt(STEPS.length)];
+                data.addAlignment(type, amount);
+                return "add " + type + " " + amount;
+            }
+            case 3 -> {
+                float value = random.nextBoolean() ? STEPS[random.nextInt(STEPS.length)] : random.nextFloat() * 40.0f;
+                data.setAlignment(type, random.nextInt(8) == 0 ? -value : value);
+                return "set " + type + " " + value;
+            }
+            case 4 -> {
+                float rate = random.nextFloat() * 10.0f;
+                data.decayAll(rate);
+                return "decay " + rate;
+            }
+            default -> {
+                float rate = random.nextFloat() * 10.0f;
+                int steps = 1 + random.nextInt(5);
+                data.decayAll(rate, steps);
+                return "decay " + rate + " x" + steps;
+            }
+        }
+    }
+
+    private static void assertMatches(AlignmentData data, Reference reference, String context) {
+        List<Map.Entry<AlignmentType, Float>> sorted = sortedEntries(data);
+
+        AlignmentType expectedDominant = sorted.get(0).getValue() > 0 ? sorted.get(0).getKey() : null;
+        AlignmentType expectedSecondary = expectedDominant != null && sorted.get(1).getValue() > 0
+                ? sorted.get(1).getKey() : null;
+        assertEquals(expectedDominant, data.getDominant(), context + ": dominant");
+        assertEquals(expectedSecondary, data.getSecondary(), context + ": secondary");
+
+        List<Float> positives = positiveValues(data);
+        assertEquals(positives.size(), data.getPositiveAlignmentCount(), context + ": positive count");
+
+        for (int rank = 0; rank < 3; rank++) {
+            assertEquals(sorted.get(rank).getKey(), data.getRankedType(rank), context + ": rank " + rank);
+            assertEquals(sorted.get(rank).getValue().floatValue(), data.getRankedValue(rank), context + ": rank value " + rank);
+        }
+        if (positives.size() >= 3) {
+            assertEquals(positives.get(0) - positives.get(2), data.getRankedValue(0) - data.getRankedValue(2),
+                    context + ": spread");
+        }
+
+        if (reference.initialized) {
+            assertEquals(reference.fractureLevel, data.getFractureLevel(), context + ": fracture level");
+            assertEquals(reference.fractured, data.isFractured(), context + ": fractured");
+        }
+    }
+
+    private static List<Map.Entry<AlignmentType, Float>> sortedEntries(AlignmentData data) {
+        Map<AlignmentType, Float> copy = new EnumMap<>(AlignmentType.class);
+        for (AlignmentType type : TYPES) {
+            copy.put(type, data.getAlignment(type));
+        }
+        List<Map.Entry<AlignmentType, Float>> sorted = new ArrayList<>(copy.entrySet());
+        sorted.sort((a, b) -> Float.compare(b.getValue(), a.getValue()));
+        return sorted;
+    }
+
+    private static List<Float> positiveValues(AlignmentData data) {
+        List<Float> topValues = new ArrayList<>();
+        for (AlignmentType type : TYPES) {
+            float value = data.getAlignment(type);
+            if (value > 0) {
+                topValues.add(value);
+            }
+        }
+        topValues.sort(Collections.reverseOrder());
+        return topValues;
+    }
+
+    private static final class Reference {
+        private boolean initialized;
+        private float fractureLevel;
+        private boolean fractured;
+        private float lastThreshold;
+
+        private void fracture(AlignmentData data, float threshold) {
+            initialized = true;
+            lastThreshold = threshold;
+            List<Float> topValues = positiveValues(data);
+
+            if (topValues.size() >= 3) {
+                float first = topValues.get(0);
+                float third = topValues.get(2);
+
+                if (first > 0 && (first - third) <= threshold) {
+                    float fractureGain = 0.5f + (topValues.size() - 3) * 0.1f;
+                    fractureLevel = Math.min(fractureLevel + fractureGain, 100.0f);
+                    fractured = true;
+                } else {
+                    float fractureDecay = 0.25f + (first - third) * 0.01f;
+                    fractureLevel = Math.max(0, fractureLevel - fractureDecay);
+                    fractured = fractureLevel > 0;
+                }
+            } else {
+                fractureLevel = Math.max(0, fractureLevel - 0.5f);
+                fractured = fractureLevel > 0;
+            }
+        }
+    }
+}